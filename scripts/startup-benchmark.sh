@@ -0,0 +1,62 @@
+#!/usr/bin/env bash
+# Сравнивает задержку от старта JVM до первого теста в режимах:
+#   ltw      - агент aspectjweaver вплетает аспекты при загрузке классов (режим по умолчанию);
+#   ctw      - аспекты вплетены при сборке (профиль ctw);
+#   ctw+cds  - вплетение при сборке и архив AppCDS (профили cds-dump и cds);
+#   ctw-jar  - тот же запуск из jar-файлов профиля cds, но без архива, для честного сравнения с ctw+cds.
+# Замеры пишет StartupTimingListener, скрипт выводит медианы по режимам.
+#
+# Использование: scripts/startup-benchmark.sh [число запусков на режим, по умолчанию 5]
+# Тесты задаются переменной STARTUP_TESTS (классы без браузера, через запятую).
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-5}"
+TESTS="${STARTUP_TESTS:-PerformanceBudgetTests,DomSnapshotTests}"
+RESULTS="$(pwd)/perf-baselines/startup-timing.csv"
+SELECT=""
+for test in ${TESTS//,/ }; do
+    SELECT="$SELECT --select-class org.example.tests.$test"
+done
+
+mkdir -p "$(dirname "$RESULTS")"
+rm -f "$RESULTS"
+
+# Профиль ctw вплетает аспекты прямо в target/test-classes, поэтому при смене режима нужна полная пересборка
+echo "ltw: $RUNS runs"
+mvn -B -q clean test-compile
+for _ in $(seq "$RUNS"); do
+    mvn -B -q test -Pstartup-timing -Dtest="$TESTS" -Dstartup.timingFile="$RESULTS" > /dev/null
+done
+
+echo "ctw: $RUNS runs"
+mvn -B -q clean test-compile -Pctw
+for _ in $(seq "$RUNS"); do
+    mvn -B -q test -Pctw,startup-timing -Dtest="$TESTS" -Dstartup.timingFile="$RESULTS" > /dev/null
+done
+
+echo "ctw+cds and ctw-jar: dump archive and $RUNS runs each"
+mvn -B -q clean test -Pctw,cds,cds-dump -Dcds.tests="$SELECT" > /dev/null
+# Запуск без пересборки jar-файлов: архив действителен только для тех же файлов classpath
+for _ in $(seq "$RUNS"); do
+    mvn -B -q -Pctw,cds dependency:build-classpath@cds-classpath exec:exec@cds-tests \
+        -Dcds.tests="$SELECT" -Dstartup.timingFile="$RESULTS" > /dev/null
+    mvn -B -q -Pctw,cds dependency:build-classpath@cds-classpath exec:exec@cds-tests \
+        -Dcds.tests="$SELECT" -Dstartup.timingFile="$RESULTS" -Djvm.cds.argLine="-Dstartup.mode=ctw-jar" > /dev/null
+done
+
+echo
+awk -F, 'NR > 1 { values[$2] = values[$2] " " $4 }
+    END {
+        printf "%-10s %8s %8s %8s\n", "mode", "runs", "median", "min"
+        for (mode in values) {
+            count = split(substr(values[mode], 2), sample, " ")
+            for (i = 1; i <= count; i++)
+                for (j = i + 1; j <= count; j++)
+                    if (sample[j] + 0 < sample[i] + 0) { swap = sample[i]; sample[i] = sample[j]; sample[j] = swap }
+            median = count % 2 ? sample[(count + 1) / 2] : (sample[count / 2] + sample[count / 2 + 1]) / 2
+            printf "%-10s %8d %6d ms %6d ms\n", mode, count, median, sample[1]
+        }
+    }' "$RESULTS"
+echo "jvmToFirstTestMillis, raw data: $RESULTS"
@@ -18,11 +18,17 @@ public class AllureAppender extends AppenderBase<ILoggingEvent> {
 
     /**
      * Метод append добавляет сообщение лога в отчет Allure.
+     * <p>
+     * Сообщения вне теста (потоки виртуальных пользователей, слушатели JUnit после завершения теста)
+     * пропускаются, потому что их некуда приложить.
      *
      * @param eventObject объект логирования, содержащий информацию о событии логирования
      */
     @Override
     protected void append(ILoggingEvent eventObject) {
+        if (Allure.getLifecycle().getCurrentTestCaseOrStep().isEmpty()) {
+            return;
+        }
         String logMessage = eventObject.getFormattedMessage();
         Allure.attachment(logMessage.substring(0, logMessage.indexOf(":")), logMessage);
     }
@@ -0,0 +1,242 @@
+package org.example.processor;
+
+import org.openqa.selenium.support.CacheLookup;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.How;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Процессор аннотаций PageElementsProcessor генерирует для каждого page-объекта с полями {@link FindBy}
+ * класс {@code <Страница>Elements} в том же пакете.
+ * <p>
+ * Сгенерированный класс хранит локаторы полей в константах {@code By} и содержит статический метод
+ * {@code initElements(page, context)}, который присваивает полям ленивые элементы
+ * {@code org.example.pages.elements.LazyElement} и {@code LazyElementList}. Это замена
+ * {@code PageFactory.initElements} без рефлексии по полям и без динамических прокси: каждое обращение
+ * к элементу - прямой вызов {@code SearchContext.findElement} и метода найденного элемента.
+ * <p>
+ * Поддерживаются поля типов {@code WebElement} и {@code List<WebElement>} с одной аннотацией {@link FindBy}
+ * и необязательной {@link CacheLookup}. Поля не должны быть private, static или final, потому что
+ * сгенерированный код присваивает их напрямую; такие поля - ошибка компиляции, а не пропуск: страницы
+ * не вызывают {@code PageFactory}, и пропущенное поле осталось бы null.
+ */
+@SupportedAnnotationTypes("org.openqa.selenium.support.FindBy")
+public class PageElementsProcessor extends AbstractProcessor {
+
+    /** Пакет ленивых элементов, на которые ссылается сгенерированный код */
+    private static final String ELEMENTS_PACKAGE = "org.example.pages.elements";
+
+    /** Суффикс имени сгенерированного класса */
+    private static final String SUFFIX = "Elements";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, List<VariableElement>> pages = new LinkedHashMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(FindBy.class)) {
+            if (element.getKind() != ElementKind.FIELD) {
+                error(element, "@FindBy is supported on fields only");
+                continue;
+            }
+            VariableElement field = (VariableElement) element;
+            if (isValid(field)) {
+                pages.computeIfAbsent((TypeElement) field.getEnclosingElement(), page -> new ArrayList<>()).add(field);
+            }
+        }
+        pages.forEach(this::generate);
+        return true;
+    }
+
+    private boolean isValid(VariableElement field) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            error(field, "@FindBy field must not be private, make it package-private so that the generated "
+                    + field.getEnclosingElement().getSimpleName() + SUFFIX + " can initialize it");
+            return false;
+        }
+        if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+            error(field, "@FindBy field must not be static or final to be initialized by the generated "
+                    + field.getEnclosingElement().getSimpleName() + SUFFIX);
+            return false;
+        }
+        if (field.getAnnotation(FindBys.class) != null || field.getAnnotation(FindAll.class) != null) {
+            error(field, "@FindBys and @FindAll are not supported by the generated page elements");
+            return false;
+        }
+        if (elementKind(field.asType()) == null) {
+            error(field, "@FindBy field must be a WebElement or List<WebElement>");
+            return false;
+        }
+        return locator(field) != null;
+    }
+
+    /**
+     * Определяет класс ленивого элемента для типа поля.
+     *
+     * @return {@code LazyElement}, {@code LazyElementList} или null для неподдерживаемого типа
+     */
+    private String elementKind(TypeMirror type) {
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror webElement = processingEnv.getElementUtils().getTypeElement("org.openqa.selenium.WebElement").asType();
+        if (types.isSameType(type, webElement)) {
+            return "LazyElement";
+        }
+        TypeMirror list = types.erasure(processingEnv.getElementUtils().getTypeElement("java.util.List").asType());
+        if (type instanceof DeclaredType && types.isSameType(types.erasure(type), list)) {
+            List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+            if (arguments.size() == 1 && types.isSameType(arguments.get(0), webElement)) {
+                return "LazyElementList";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Строит выражение {@code By} для аннотации {@link FindBy} поля.
+     *
+     * @return исходный код выражения или null, если локатор задан неверно
+     */
+    private String locator(VariableElement field) {
+        FindBy findBy = field.getAnnotation(FindBy.class);
+        List<String> locators = new ArrayList<>();
+        addLocator(locators, "By.id", findBy.id());
+        addLocator(locators, "By.name", findBy.name());
+        addLocator(locators, "By.className", findBy.className());
+        addLocator(locators, "By.cssSelector", findBy.css());
+        addLocator(locators, "By.tagName", findBy.tagName());
+        addLocator(locators, "By.linkText", findBy.linkText());
+        addLocator(locators, "By.partialLinkText", findBy.partialLinkText());
+        addLocator(locators, "By.xpath", findBy.xpath());
+        if (findBy.how() != How.UNSET) {
+            if (findBy.using().isEmpty()) {
+                error(field, "@FindBy with 'how' must also set 'using'");
+                return null;
+            }
+            addLocator(locators, howFactory(findBy.how()), findBy.using());
+        }
+        if (locators.size() != 1) {
+            error(field, "@FindBy must set exactly one locator, found " + locators.size());
+            return null;
+        }
+        return locators.get(0);
+    }
+
+    private void addLocator(List<String> locators, String factory, String value) {
+        if (!value.isEmpty()) {
+            locators.add(factory + "(" + processingEnv.getElementUtils().getConstantExpression(value) + ")");
+        }
+    }
+
+    private static String howFactory(How how) {
+        switch (how) {
+            case CLASS_NAME:
+                return "By.className";
+            case CSS:
+                return "By.cssSelector";
+            case ID:
+                return "By.id";
+            case ID_OR_NAME:
+                return "new org.openqa.selenium.support.ByIdOrName";
+            case LINK_TEXT:
+                return "By.linkText";
+            case NAME:
+                return "By.name";
+            case PARTIAL_LINK_TEXT:
+                return "By.partialLinkText";
+            case TAG_NAME:
+                return "By.tagName";
+            case XPATH:
+                return "By.xpath";
+            default:
+                throw new IllegalArgumentException("Unsupported How: " + how);
+        }
+    }
+
+    private void generate(TypeElement page, List<VariableElement> fields) {
+        String packageName = processingEnv.getElementUtils().getPackageOf(page).getQualifiedName().toString();
+        String className = page.getSimpleName() + SUFFIX;
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(qualifiedName, page).openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            fields.stream().map(field -> elementKind(field.asType())).distinct().sorted()
+                    .forEach(kind -> out.println("import " + ELEMENTS_PACKAGE + "." + kind + ";"));
+            out.println("import org.openqa.selenium.By;");
+            out.println("import org.openqa.selenium.SearchContext;");
+            out.println();
+            out.println("import javax.annotation.processing.Generated;");
+            out.println();
+            out.println("/**");
+            out.println(" * Локаторы элементов страницы {@link " + page.getSimpleName() + "}, сгенерированные из полей с {@code @FindBy}.");
+            out.println(" */");
+            out.println("@Generated(\"" + PageElementsProcessor.class.getName() + "\")");
+            out.println("final class " + className + " {");
+            for (VariableElement field : fields) {
+                out.println();
+                out.println("    /** Локатор поля {@code " + field.getSimpleName() + "} */");
+                out.println("    static final By " + constantName(field) + " = " + locator(field) + ";");
+            }
+            out.println();
+            out.println("    private " + className + "() {");
+            out.println("    }");
+            out.println();
+            out.println("    /**");
+            out.println("     * Присваивает полям страницы ленивые элементы, которые ищутся в контексте при обращении.");
+            out.println("     *");
+            out.println("     * @param page    страница");
+            out.println("     * @param context контекст поиска элементов, обычно WebDriver");
+            out.println("     */");
+            String pageType = page.getNestingKind() == NestingKind.TOP_LEVEL ? page.getSimpleName().toString() : page.getQualifiedName().toString();
+            out.println("    static void initElements(" + pageType + " page, SearchContext context) {");
+            for (VariableElement field : fields) {
+                boolean cacheLookup = field.getAnnotation(CacheLookup.class) != null;
+                out.println("        page." + field.getSimpleName() + " = new " + elementKind(field.asType()) + "(context, "
+                        + constantName(field) + ", \"" + field.getSimpleName() + "\", " + cacheLookup + ");");
+            }
+            out.println("    }");
+            out.println("}");
+        } catch (IOException e) {
+            error(page, "Unable to generate " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Преобразует имя поля в имя константы: {@code doubleClickButton} в {@code DOUBLE_CLICK_BUTTON}.
+     */
+    private static String constantName(VariableElement field) {
+        return field.getSimpleName().toString().replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocatorFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк PageElementsBenchmark сравнивает инициализацию элементов страницы {@code PageFactory.initElements}
+ * с кодом, сгенерированным PageElementsProcessor.
+ * <p>
+ * Измеряются создание страницы с шестью полями {@code @FindBy} (как у ButtonsPage) и накладные расходы
+ * одного обращения к элементу: через динамический прокси PageFactory и через LazyElement. Браузер заменен
+ * контекстом поиска, который сразу возвращает готовый элемент, поэтому в замер попадает только стоимость
+ * инициализации и вызова.
+ * <p>
+ * Запуск: {@code mvn test -Pjmh -Djmh.args=PageElementsBenchmark} или метод {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageElementsBenchmark {
+
+    private SearchContext context;
+    private BenchmarkPage pageFactoryPage;
+    private BenchmarkPage generatedPage;
+
+    /**
+     * Готовит контекст поиска и страницы, инициализированные обоими способами.
+     */
+    @Setup
+    public void setUp() {
+        WebElement element = new RemoteWebElement() {
+            @Override
+            public String getText() {
+                return "Click Me";
+            }
+        };
+        context = new SearchContext() {
+            @Override
+            public List<WebElement> findElements(By by) {
+                return List.of(element);
+            }
+
+            @Override
+            public WebElement findElement(By by) {
+                return element;
+            }
+        };
+        pageFactoryPage = pageFactoryInit();
+        generatedPage = generatedInit();
+    }
+
+    @Benchmark
+    public BenchmarkPage pageFactoryInit() {
+        BenchmarkPage page = new BenchmarkPage();
+        PageFactory.initElements(new DefaultElementLocatorFactory(context), page);
+        return page;
+    }
+
+    @Benchmark
+    public BenchmarkPage generatedInit() {
+        BenchmarkPage page = new BenchmarkPage();
+        BenchmarkPageElements.initElements(page, context);
+        return page;
+    }
+
+    @Benchmark
+    public String pageFactoryCall() {
+        return pageFactoryPage.leftClickButton.getText();
+    }
+
+    @Benchmark
+    public String generatedCall() {
+        return generatedPage.leftClickButton.getText();
+    }
+
+    /**
+     * Запускает бенчмарк без Maven.
+     *
+     * @param args не используются
+     * @throws RunnerException если JMH не смог выполнить бенчмарк
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PageElementsBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * Страница с теми же локаторами, что у ButtonsPage, но без WebDriver.
+     */
+    public static class BenchmarkPage {
+
+        @FindBy(css = "button#doubleClickBtn")
+        WebElement doubleClickButton;
+
+        @FindBy(css = "button#rightClickBtn")
+        WebElement rightClickButton;
+
+        @FindBy(xpath = "//button[text()= 'Click Me']")
+        WebElement leftClickButton;
+
+        @FindBy(css = "p#doubleClickMessage")
+        WebElement doubleClickTextLabel;
+
+        @FindBy(css = "p#rightClickMessage")
+        WebElement rightClickTextLabel;
+
+        @FindBy(css = "p#dynamicClickMessage")
+        WebElement leftClickTextLabel;
+    }
+}
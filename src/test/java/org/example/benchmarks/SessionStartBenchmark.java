@@ -0,0 +1,151 @@
+package org.example.benchmarks;
+
+import org.example.utils.backend.DriverBinaries;
+import org.example.utils.backend.DriverBinaryCache;
+import org.example.utils.backend.LocalChromeBackend;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Бенчмарк SessionStartBenchmark сравнивает время создания локальной сессии Chrome до и после
+ * кэша бинарных файлов и общего сервиса chromedriver.
+ * <p>
+ * {@link #startSession(SessionState)} измеряет {@code LocalChromeBackend.startSession} в трех режимах:
+ * {@code uncached} - {@code new ChromeDriver(options)} с Selenium Manager на каждую сессию (прежнее поведение),
+ * {@code cached} - пути из {@link DriverBinaryCache} и отдельный сервис chromedriver на сессию,
+ * {@code shared} - пути из кэша и один сервис chromedriver на все сессии. Сессия закрывается вне замера.
+ * Для этих замеров нужен установленный Chrome.
+ * <p>
+ * {@link #resolveCached(CacheState)} и {@link #resolveWithSeleniumManager()} измеряют только поиск
+ * бинарных файлов: попадание в кэш и запуск Selenium Manager с проверкой версий.
+ * <p>
+ * Запуск: {@code mvn test -Pjmh -Djmh.args=SessionStartBenchmark} или метод {@link #main(String[])}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SessionStartBenchmark {
+
+    @Benchmark
+    public WebDriver startSession(SessionState state) {
+        state.driver = state.backend.startSession(options());
+        return state.driver;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public DriverBinaries resolveCached(CacheState state) {
+        return state.cache.resolve(state.options);
+    }
+
+    @Benchmark
+    public DriverBinaries resolveWithSeleniumManager() {
+        return DriverBinaryCache.resolveWithSeleniumManager(options());
+    }
+
+    /**
+     * Запускает бенчмарк без Maven.
+     *
+     * @param args не используются
+     * @throws RunnerException если JMH не смог выполнить бенчмарк
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SessionStartBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private static ChromeOptions options() {
+        return new ChromeOptions().addArguments("--headless=new");
+    }
+
+    /**
+     * Бэкенд в одном из режимов и сессия, созданная последним замером.
+     */
+    @State(Scope.Benchmark)
+    public static class SessionState {
+
+        @Param({"uncached", "cached", "shared"})
+        public String mode;
+
+        private LocalChromeBackend backend;
+        private WebDriver driver;
+
+        @Setup(Level.Trial)
+        public void createBackend() {
+            DriverBinaryCache cache = "uncached".equals(mode) ? null : DriverBinaryCache.getDefault();
+            backend = new LocalChromeBackend(cache, "shared".equals(mode));
+        }
+
+        @TearDown(Level.Invocation)
+        public void stopSession() {
+            if (driver != null) {
+                backend.stopSession(driver);
+                driver = null;
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void shutdownBackend() {
+            backend.shutdown();
+        }
+    }
+
+    /**
+     * Кэш с записью для поддельных бинарных файлов, чтобы замер не зависел от установленного браузера.
+     */
+    @State(Scope.Benchmark)
+    public static class CacheState {
+
+        private final ChromeOptions options = new ChromeOptions();
+        private Path directory;
+        private DriverBinaryCache cache;
+
+        @Setup(Level.Trial)
+        public void createCache() throws IOException {
+            directory = Files.createTempDirectory("driver-binaries");
+            Path driver = executable(directory.resolve("chromedriver"));
+            Path browser = executable(directory.resolve("chrome"));
+            cache = new DriverBinaryCache(directory.resolve("driver-binaries.properties"),
+                    options -> new DriverBinaries(driver.toString(), "ChromeDriver", browser.toString(), "Chrome"));
+            cache.resolve(options);
+        }
+
+        @TearDown(Level.Trial)
+        public void deleteCache() throws IOException {
+            try (var files = Files.walk(directory)) {
+                files.sorted((left, right) -> right.compareTo(left)).forEach(path -> path.toFile().delete());
+            }
+        }
+
+        private static Path executable(Path file) throws IOException {
+            Files.writeString(file, "#!/bin/sh\n");
+            file.toFile().setExecutable(true);
+            return file;
+        }
+    }
+}
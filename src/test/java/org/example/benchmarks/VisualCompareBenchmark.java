@@ -0,0 +1,154 @@
+package org.example.benchmarks;
+
+import org.example.visual.ImageData;
+import org.example.visual.VisualBaseline;
+import org.example.visual.VisualComparator;
+import org.example.visual.VisualComparison;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Бенчмарк VisualCompareBenchmark измеряет пропускную способность сравнения скриншотов 1920x1080.
+ * <p>
+ * Сравниваются три случая: совпавший снимок (хватает хэшей плиток), локальное изменение
+ * (попиксельно сравниваются две плитки) и наивное попиксельное сравнение {@link BufferedImage#getRGB(int, int)}
+ * всего кадра для сравнения с прежним подходом.
+ * <p>
+ * Запуск: {@code mvn test -Pjmh -Djmh.args=VisualCompareBenchmark} или метод {@link #main(String[])}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VisualCompareBenchmark {
+
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+
+    private final VisualComparator comparator = new VisualComparator(32, 16, 0.001, 16);
+
+    private Path directory;
+    private ImageData identical;
+    private ImageData changed;
+    private VisualBaseline baseline;
+    private BufferedImage baselineImage;
+    private BufferedImage changedImage;
+
+    /**
+     * Готовит эталон во временном каталоге и снимки для сравнения.
+     *
+     * @throws IOException если не удалось создать временный каталог
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("visual-benchmark");
+        ImageData page = page();
+        baseline = VisualBaseline.save(directory, "page", page, comparator.grid(page, List.of()));
+        baseline.image();
+        identical = page();
+        changed = page();
+        for (int y = 500; y < 520; y++) {
+            for (int x = 900; x < 960; x++) {
+                changed.getPixels()[y * WIDTH + x] = 0x00AA00;
+            }
+        }
+        baselineImage = toBufferedImage(page);
+        changedImage = toBufferedImage(changed);
+    }
+
+    /**
+     * Удаляет временный каталог эталона.
+     *
+     * @throws IOException если не удалось удалить файлы
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public VisualComparison identicalScreenshot() {
+        return comparator.compare(identical, baseline, List.of());
+    }
+
+    @Benchmark
+    public VisualComparison localizedChange() {
+        return comparator.compare(changed, baseline, List.of());
+    }
+
+    @Benchmark
+    public long naivePixelByPixel() {
+        long diff = 0;
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                if (baselineImage.getRGB(x, y) != changedImage.getRGB(x, y)) {
+                    diff++;
+                }
+            }
+        }
+        return diff;
+    }
+
+    /**
+     * Запускает бенчмарк без Maven.
+     *
+     * @param args не используются
+     * @throws RunnerException если JMH не смог выполнить бенчмарк
+     */
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(VisualCompareBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    private static ImageData page() {
+        int[] pixels = new int[WIDTH * HEIGHT];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                int shade = 200 + (x + y) % 40;
+                pixels[y * WIDTH + x] = shade << 16 | shade << 8 | shade;
+            }
+        }
+        for (Rectangle block : List.of(new Rectangle(0, 0, WIDTH, 80), new Rectangle(240, 200, 600, 400),
+                new Rectangle(1000, 200, 500, 300))) {
+            for (int y = block.y; y < block.y + block.height; y++) {
+                for (int x = block.x; x < block.x + block.width; x++) {
+                    pixels[y * WIDTH + x] = (x * 31 + y * 17) & 0xFFFFFF;
+                }
+            }
+        }
+        return new ImageData(WIDTH, HEIGHT, pixels);
+    }
+
+    private static BufferedImage toBufferedImage(ImageData image) {
+        BufferedImage buffered = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_3BYTE_BGR);
+        buffered.setRGB(0, 0, image.getWidth(), image.getHeight(), image.getPixels(), 0, image.getWidth());
+        return buffered;
+    }
+}
@@ -0,0 +1,186 @@
+package org.example.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Класс LatencyRecorder измеряет длительность шагов виртуальных пользователей.
+ * <p>
+ * Для каждого шага ведется HdrHistogram с точностью до трех значащих цифр (значения в микросекундах),
+ * счетчик ошибок и посекундная шкала пропускной способности: сколько шагов завершилось
+ * в каждую секунду от начала прогона. Класс потокобезопасен.
+ */
+public class LatencyRecorder {
+
+    /** Гистограммы длительности шагов, в микросекундах */
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /** Количество ошибок по шагам */
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    /** Количество завершенных шагов по секундам от начала прогона */
+    private final ConcurrentSkipListMap<Long, LongAdder> throughput = new ConcurrentSkipListMap<>();
+
+    /** Часы в наносекундах */
+    private final LongSupplier nanoClock;
+
+    /** Момент начала прогона */
+    private final long startNanos;
+
+    /**
+     * Конструктор LatencyRecorder с часами {@link System#nanoTime()}.
+     */
+    public LatencyRecorder() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Конструктор LatencyRecorder.
+     *
+     * @param nanoClock часы в наносекундах для длительности шагов и шкалы пропускной способности
+     */
+    public LatencyRecorder(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Выполняет шаг и записывает его длительность.
+     *
+     * @param name   имя шага
+     * @param action действие шага
+     */
+    public void step(String name, Runnable action) {
+        step(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Выполняет шаг, записывает его длительность и возвращает результат.
+     * <p>
+     * Если шаг завершился исключением, длительность все равно записывается, ошибка учитывается
+     * в счетчике шага, а исключение пробрасывается дальше.
+     *
+     * @param name   имя шага
+     * @param action действие шага
+     * @param <T>    тип результата
+     * @return результат шага
+     */
+    public <T> T step(String name, Supplier<T> action) {
+        long start = nanoClock.getAsLong();
+        boolean failed = true;
+        try {
+            T result = action.get();
+            failed = false;
+            return result;
+        } finally {
+            record(name, nanoClock.getAsLong() - start, failed);
+        }
+    }
+
+    /**
+     * Записывает длительность шага.
+     *
+     * @param name   имя шага
+     * @param nanos  длительность в наносекундах
+     * @param failed true, если шаг завершился ошибкой
+     */
+    public void record(String name, long nanos, boolean failed) {
+        histograms.computeIfAbsent(name, key -> new ConcurrentHistogram(3))
+                .recordValue(TimeUnit.NANOSECONDS.toMicros(nanos));
+        if (failed) {
+            errors.computeIfAbsent(name, key -> new LongAdder()).increment();
+        }
+        long second = TimeUnit.NANOSECONDS.toSeconds(nanoClock.getAsLong() - startNanos);
+        throughput.computeIfAbsent(second, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Возвращает общее количество выполненных шагов.
+     *
+     * @return количество шагов
+     */
+    public long getTotalCount() {
+        return histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    /**
+     * Возвращает общее количество шагов, завершившихся ошибкой.
+     *
+     * @return количество ошибок
+     */
+    public long getErrorCount() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Возвращает долю шагов, завершившихся ошибкой.
+     *
+     * @return доля ошибок от 0 до 1
+     */
+    public double getErrorRate() {
+        long total = getTotalCount();
+        return total == 0 ? 0 : getErrorCount() / (double) total;
+    }
+
+    /**
+     * Возвращает перцентиль длительности шага.
+     *
+     * @param name       имя шага
+     * @param percentile перцентиль от 0 до 100
+     * @return длительность в миллисекундах или 0, если шаг не выполнялся
+     */
+    public double percentileMillis(String name, double percentile) {
+        Histogram histogram = histograms.get(name);
+        return histogram == null ? 0 : histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * Формирует таблицу перцентилей длительности по шагам.
+     *
+     * @return текстовая таблица
+     */
+    public String latencyReport() {
+        StringBuilder report = new StringBuilder(String.format("%-32s %8s %7s %10s %10s %10s %10s %10s%n",
+                "step", "count", "errors", "mean ms", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        new TreeMap<>(histograms).forEach((name, histogram) -> report.append(String.format(
+                "%-32s %8d %7d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+                name,
+                histogram.getTotalCount(),
+                errors.getOrDefault(name, new LongAdder()).sum(),
+                histogram.getMean() / 1000.0,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(90) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getMaxValue() / 1000.0)));
+        return report.toString();
+    }
+
+    /**
+     * Формирует шкалу пропускной способности в формате CSV: секунда от начала прогона и количество шагов.
+     *
+     * @return CSV с пропускной способностью по секундам
+     */
+    public String throughputCsv() {
+        StringBuilder csv = new StringBuilder("second,steps\n");
+        if (throughput.isEmpty()) {
+            return csv.toString();
+        }
+        for (long second = 0; second <= throughput.lastKey(); second++) {
+            LongAdder count = throughput.get(second);
+            csv.append(second).append(',').append(count == null ? 0 : count.sum()).append('\n');
+        }
+        return csv.toString();
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.load;
+
+import java.time.Duration;
+
+/**
+ * Класс LoadProfile описывает параметры нагрузочного прогона.
+ * <p>
+ * Параметры задаются системными свойствами:
+ * <ul>
+ *     <li>{@code load.users} - количество виртуальных пользователей (по умолчанию 4);</li>
+ *     <li>{@code load.rampUpSeconds} - время, за которое стартуют все пользователи (по умолчанию 10);</li>
+ *     <li>{@code load.thinkTimeMillis} - пауза пользователя между сценариями (по умолчанию 500);</li>
+ *     <li>{@code load.durationSeconds} - длительность нагрузки после разгона (по умолчанию 60).</li>
+ * </ul>
+ */
+public class LoadProfile {
+
+    /** Количество виртуальных пользователей */
+    private final int users;
+
+    /** Время, за которое стартуют все пользователи */
+    private final Duration rampUp;
+
+    /** Пауза пользователя между сценариями */
+    private final Duration thinkTime;
+
+    /** Длительность нагрузки после разгона */
+    private final Duration duration;
+
+    /**
+     * Конструктор LoadProfile.
+     *
+     * @param users     количество виртуальных пользователей
+     * @param rampUp    время, за которое стартуют все пользователи
+     * @param thinkTime пауза пользователя между сценариями
+     * @param duration  длительность нагрузки после разгона
+     */
+    public LoadProfile(int users, Duration rampUp, Duration thinkTime, Duration duration) {
+        if (users < 1) {
+            throw new IllegalArgumentException("users must be positive: " + users);
+        }
+        this.users = users;
+        this.rampUp = rampUp;
+        this.thinkTime = thinkTime;
+        this.duration = duration;
+    }
+
+    /**
+     * Создает профиль нагрузки по системным свойствам.
+     *
+     * @return профиль нагрузки
+     */
+    public static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Integer.getInteger("load.users", 4),
+                Duration.ofSeconds(Long.getLong("load.rampUpSeconds", 10)),
+                Duration.ofMillis(Long.getLong("load.thinkTimeMillis", 500)),
+                Duration.ofSeconds(Long.getLong("load.durationSeconds", 60)));
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public Duration getRampUp() {
+        return rampUp;
+    }
+
+    public Duration getThinkTime() {
+        return thinkTime;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Возвращает задержку старта пользователя с указанным номером.
+     *
+     * @param userIndex номер пользователя, начиная с нуля
+     * @return задержка старта
+     */
+    public Duration startDelayOf(int userIndex) {
+        return rampUp.multipliedBy(userIndex).dividedBy(users);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("users=%d, rampUp=%ds, thinkTime=%dms, duration=%ds",
+                users, rampUp.toSeconds(), thinkTime.toMillis(), duration.toSeconds());
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.utils.WebDriverProvider;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Класс LoadRunner запускает виртуальных пользователей, которые выполняют сценарии на page-объектах.
+ * <p>
+ * Пользователи стартуют равномерно в течение времени разгона, каждый получает собственную сессию
+ * через {@link WebDriverProvider#createDriver()} и держит ее до конца прогона. Количество одновременных
+ * сессий ограничивается бэкендом WebDriver ({@code webdriver.maxSessions}), поэтому лишние пользователи
+ * ждут в клиентской очереди. Для нагрузки с одной машины рекомендуется безголовый режим
+ * ({@code webdriver.headless=true}).
+ */
+@Slf4j
+public class LoadRunner {
+
+    /** Счетчик потоков виртуальных пользователей для их имен */
+    private static final AtomicInteger THREADS = new AtomicInteger();
+
+    /** Профиль нагрузки */
+    private final LoadProfile profile;
+
+    /**
+     * Конструктор LoadRunner.
+     *
+     * @param profile профиль нагрузки
+     */
+    public LoadRunner(LoadProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * Выполняет нагрузочный прогон и возвращает собранные метрики.
+     *
+     * @param scenarios сценарии, которые пользователи выполняют по кругу
+     * @return регистратор с гистограммами шагов и пропускной способностью
+     */
+    public LatencyRecorder run(List<LoadScenario> scenarios) {
+        log.info("Slf4j Logging: Starting load run: {}", profile);
+        LatencyRecorder recorder = new LatencyRecorder();
+        long deadline = System.nanoTime() + profile.getRampUp().plus(profile.getDuration()).toNanos();
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(profile.getUsers(), LoadRunner::virtualUserThread);
+        for (int i = 0; i < profile.getUsers(); i++) {
+            int userIndex = i;
+            executor.schedule(() -> runUser(userIndex, scenarios, recorder, deadline),
+                    profile.startDelayOf(i).toMillis(), TimeUnit.MILLISECONDS);
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(profile.getRampUp().plus(profile.getDuration()).toSeconds() + 300, TimeUnit.SECONDS)) {
+                log.warn("Slf4j Logging: Virtual users did not finish in time, interrupting them");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("Slf4j Logging: Load run finished: {} steps, {} errors", recorder.getTotalCount(), recorder.getErrorCount());
+        log.info("Slf4j Logging: Step latency:\n{}", recorder.latencyReport());
+        return recorder;
+    }
+
+    /**
+     * Создает поток виртуального пользователя, который не наследует InheritableThreadLocal потока теста.
+     * <p>
+     * Allure хранит контекст текущего теста и шагов в InheritableThreadLocal. Унаследованный контекст
+     * заставил бы шаги page-объектов и вложения логов всех пользователей одновременно писаться
+     * в результат теста, запустившего прогон.
+     */
+    private static Thread virtualUserThread(Runnable task) {
+        return new Thread(null, task, "virtual-user-" + THREADS.incrementAndGet(), 0, false);
+    }
+
+    /**
+     * Цикл одного виртуального пользователя: сценарий, пауза, следующий сценарий - до окончания прогона.
+     */
+    private void runUser(int userIndex, List<LoadScenario> scenarios, LatencyRecorder recorder, long deadline) {
+        WebDriver driver;
+        try {
+            driver = recorder.step("session.create", WebDriverProvider::createDriver);
+        } catch (RuntimeException e) {
+            log.warn("Slf4j Logging: Virtual user {} could not get a session: {}", userIndex, e.getMessage());
+            return;
+        }
+        int iteration = userIndex;
+        try {
+            while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                LoadScenario scenario = scenarios.get(iteration++ % scenarios.size());
+                try {
+                    scenario.run(driver, recorder);
+                } catch (RuntimeException e) {
+                    log.warn("Slf4j Logging: Virtual user {} failed scenario '{}': {}", userIndex, scenario.name(), e.getMessage());
+                }
+                TimeUnit.MILLISECONDS.sleep(profile.getThinkTime().toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            WebDriverProvider.releaseDriver(driver);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.load;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Интерфейс LoadScenario описывает одну итерацию виртуального пользователя.
+ * <p>
+ * Сценарий выполняет шаги через page-объекты и оборачивает каждый шаг в
+ * {@link LatencyRecorder#step(String, Runnable)}, чтобы его длительность попала в гистограмму.
+ */
+public interface LoadScenario {
+
+    /**
+     * Возвращает имя сценария для логов.
+     *
+     * @return имя сценария
+     */
+    String name();
+
+    /**
+     * Выполняет одну итерацию сценария.
+     *
+     * @param driver   сессия WebDriver виртуального пользователя
+     * @param recorder регистратор длительности шагов
+     */
+    void run(WebDriver driver, LatencyRecorder recorder);
+}
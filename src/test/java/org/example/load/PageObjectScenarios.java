@@ -0,0 +1,90 @@
+package org.example.load;
+
+import org.example.pages.ButtonsPage;
+import org.example.pages.DroppablePage;
+import org.example.pages.ProgressBarPage;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+
+/**
+ * Класс PageObjectScenarios содержит сценарии нагрузки, построенные на существующих page-объектах.
+ * <p>
+ * Сценарии повторяют функциональные тесты из {@link org.example.tests.SomeBrowserTests}, но вместо
+ * утверждений AssertJ бросают {@link IllegalStateException}, чтобы неверный результат учитывался как ошибка шага.
+ */
+public class PageObjectScenarios {
+
+    /** Сценарий страницы с кнопками: три вида кликов и ожидание сообщений */
+    public static final LoadScenario BUTTONS = scenario("buttons", (driver, recorder) -> {
+        ButtonsPage page = new ButtonsPage(driver);
+        recorder.step("buttons.open", page::open);
+        recorder.step("buttons.doubleClick", page::doubleClickButton);
+        recorder.step("buttons.rightClick", page::rightClickButton);
+        recorder.step("buttons.leftClick", page::leftClickButton);
+        recorder.step("buttons.waitForMessages", () -> page.waitForAllMessagesToBePresent(List.of(
+                "You have done a double click",
+                "You have done a right click",
+                "You have done a dynamic click")));
+    });
+
+    /** Сценарий страницы Drag and Drop */
+    public static final LoadScenario DROPPABLE = scenario("droppable", (driver, recorder) -> {
+        DroppablePage page = new DroppablePage(driver);
+        recorder.step("droppable.open", page::open);
+        recorder.step("droppable.dragAndDrop", page::dragAndDrop);
+        recorder.step("droppable.verifyText", () -> expect("Dropped!", page.getDroppableElementText()));
+    });
+
+    /** Сценарий страницы с прогресс-баром: запуск, ожидание 20% и остановка */
+    public static final LoadScenario PROGRESS_BAR = scenario("progressBar", (driver, recorder) -> {
+        ProgressBarPage page = new ProgressBarPage(driver);
+        recorder.step("progressBar.open", page::open);
+        recorder.step("progressBar.start", page::clickStartStopButton);
+        recorder.step("progressBar.waitFor20", () -> page.waitForProgressBarToReach(20));
+        recorder.step("progressBar.stop", page::clickStartStopButton);
+        recorder.step("progressBar.verifyButton", () -> expect("Start", page.getStartStopButtonText()));
+    });
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров этого класса.
+     */
+    private PageObjectScenarios() {
+    }
+
+    /**
+     * Возвращает все сценарии. Виртуальные пользователи получают их по кругу.
+     *
+     * @return список сценариев
+     */
+    public static List<LoadScenario> all() {
+        return List.of(BUTTONS, DROPPABLE, PROGRESS_BAR);
+    }
+
+    private static LoadScenario scenario(String name, ScenarioBody body) {
+        return new LoadScenario() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public void run(WebDriver driver, LatencyRecorder recorder) {
+                body.run(driver, recorder);
+            }
+        };
+    }
+
+    private static void expect(String expected, String actual) {
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("Expected '" + expected + "' but was '" + actual + "'");
+        }
+    }
+
+    /**
+     * Тело сценария.
+     */
+    private interface ScenarioBody {
+        void run(WebDriver driver, LatencyRecorder recorder);
+    }
+}
@@ -1,6 +1,17 @@
 package org.example.pages;
 
+import io.qameta.allure.Step;
+import lombok.extern.slf4j.Slf4j;
+import org.example.pages.snapshot.DomSnapshot;
+import org.example.visual.VisualCheck;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Wait;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Абстрактный класс BasePage служит базовым классом для всех страниц в приложении.
@@ -10,8 +21,12 @@ import org.openqa.selenium.WebDriver;
  * <p>
  * Наследование от BasePage позволяет избежать дублирования кода и облегчает поддержку и расширение проекта.
  */
+@Slf4j
 public abstract class BasePage {
 
+    /** Базовый адрес тестируемого приложения по умолчанию */
+    public static final String DEFAULT_BASE_URL = "https://demoqa.com";
+
     /** Экземпляр WebDriver, управляющий браузером */
     protected WebDriver driver;
 
@@ -24,4 +39,131 @@ public abstract class BasePage {
         this.driver = driver;
     }
 
+    /**
+     * Возвращает базовый адрес тестируемого приложения.
+     * <p>
+     * Адрес задается системным свойством {@code base.url}, например для запуска против
+     * локального {@link org.example.utils.FixtureServer}. По умолчанию используется {@link #DEFAULT_BASE_URL}.
+     *
+     * @return базовый адрес приложения без завершающего слеша
+     */
+    public static String baseUrl() {
+        return System.getProperty("base.url", DEFAULT_BASE_URL);
+    }
+
+    /**
+     * Получает снимок всего DOM страницы одним запросом к браузеру.
+     * <p>
+     * Последующие проверки по снимку выполняются локально, без обращений к WebDriver.
+     *
+     * @return снимок DOM страницы
+     */
+    @Step("Take a DOM snapshot of the page")
+    public DomSnapshot snapshot() {
+        log.info("Slf4j Logging: Taking a DOM snapshot of the page");
+        return captureSnapshot();
+    }
+
+    /**
+     * Получает снимок всего DOM страницы без шага Allure.
+     * <p>
+     * Предназначен для циклов ожидания: каждая итерация опроса не добавляет шаг в отчет.
+     *
+     * @return снимок DOM страницы
+     */
+    protected DomSnapshot captureSnapshot() {
+        String html = (String) ((JavascriptExecutor) driver).executeScript("return document.documentElement.outerHTML;");
+        return DomSnapshot.parse(html);
+    }
+
+    /**
+     * Ожидает непустой текст первого элемента под CSS-селектор, читая его из снимка поддерева DOM.
+     * <p>
+     * Каждая итерация ожидания стоит одного обращения к браузеру вместо поиска элемента,
+     * проверки видимости и чтения текста отдельными командами WebDriver.
+     *
+     * @param wait        ожидание страницы
+     * @param cssSelector CSS-селектор элемента
+     * @return текст элемента
+     */
+    protected String waitForSnapshotText(Wait<WebDriver> wait, String cssSelector) {
+        return wait.until(webDriver -> {
+            String html = fragmentHtml(cssSelector);
+            String text = html == null ? "" : DomSnapshot.parseFragment(html).text(cssSelector);
+            return text.isEmpty() ? null : text;
+        });
+    }
+
+    /**
+     * Получает снимок поддерева DOM, корнем которого является первый элемент под CSS-селектор.
+     *
+     * @param cssSelector CSS-селектор корневого элемента
+     * @return снимок поддерева DOM
+     * @throws NoSuchElementException если элемент не найден
+     */
+    @Step("Take a DOM snapshot of {cssSelector}")
+    public DomSnapshot snapshot(String cssSelector) {
+        log.info("Slf4j Logging: Taking a DOM snapshot of {}", cssSelector);
+        String html = fragmentHtml(cssSelector);
+        if (html == null) {
+            throw new NoSuchElementException("Unable to take a DOM snapshot, no element matches: " + cssSelector);
+        }
+        return DomSnapshot.parseFragment(html);
+    }
+
+    /**
+     * Возвращает HTML первого элемента под CSS-селектор или null, если элемента нет.
+     */
+    private String fragmentHtml(String cssSelector) {
+        return (String) ((JavascriptExecutor) driver).executeScript(
+                "var root = document.querySelector(arguments[0]); return root ? root.outerHTML : null;", cssSelector);
+    }
+
+    /**
+     * Сравнивает текущее состояние окна браузера с визуальным эталоном.
+     * <p>
+     * Области элементов под переданные CSS-селекторы (реклама, часы, анимации) не сравниваются.
+     * Проверка выполняется только при {@code visual.enabled=true}, см. {@link VisualCheck}.
+     *
+     * @param name            имя эталона
+     * @param ignoreSelectors CSS-селекторы игнорируемых элементов
+     */
+    @Step("Verify visual state {name}")
+    public void verifyVisualState(String name, String... ignoreSelectors) {
+        log.info("Slf4j Logging: Verifying visual state {}", name);
+        // Области игнорируемых элементов запрашиваются у браузера, только если проверка включена
+        List<Rectangle> regions = VisualCheck.isEnabled() ? ignoreRegions(ignoreSelectors) : List.of();
+        VisualCheck.verify(driver, name, regions);
+    }
+
+    /**
+     * Получает области элементов в пикселях скриншота одним запросом к браузеру.
+     *
+     * @param selectors CSS-селекторы элементов
+     * @return области всех найденных элементов
+     */
+    private List<Rectangle> ignoreRegions(String... selectors) {
+        if (selectors.length == 0) {
+            return List.of();
+        }
+        @SuppressWarnings("unchecked")
+        List<List<Number>> rects = (List<List<Number>>) ((JavascriptExecutor) driver).executeScript(
+                "var ratio = window.devicePixelRatio || 1, result = [];"
+                        + "arguments[0].forEach(function (selector) {"
+                        + "  document.querySelectorAll(selector).forEach(function (element) {"
+                        + "    var r = element.getBoundingClientRect();"
+                        + "    if (r.width > 0 && r.height > 0) {"
+                        + "      result.push([Math.floor(r.left * ratio), Math.floor(r.top * ratio),"
+                        + "                   Math.ceil(r.width * ratio), Math.ceil(r.height * ratio)]);"
+                        + "    }"
+                        + "  });"
+                        + "});"
+                        + "return result;", List.of(selectors));
+        List<Rectangle> regions = new ArrayList<>();
+        for (List<Number> rect : rects) {
+            regions.add(new Rectangle(rect.get(0).intValue(), rect.get(1).intValue(), rect.get(2).intValue(), rect.get(3).intValue()));
+        }
+        return regions;
+    }
+
 }
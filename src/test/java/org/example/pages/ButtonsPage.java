@@ -2,10 +2,11 @@ package org.example.pages;
 
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
+import org.example.perf.PerformanceBudget;
+import org.example.pages.snapshot.DomSnapshot;
 import org.openqa.selenium.*;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.*;
 
 import java.time.Duration;
@@ -26,31 +27,28 @@ public class ButtonsPage extends BasePage {
     private final WebDriverWait wait;
 
     /** URL страницы с кнопками */
-    public String URL = "https://demoqa.com/buttons";
+    public String URL = baseUrl() + "/buttons";
+
+    /** CSS-селектор сообщения после двойного клика */
+    static final String DOUBLE_CLICK_MESSAGE = "p#doubleClickMessage";
+
+    /** CSS-селектор сообщения после клика правой кнопкой мыши */
+    static final String RIGHT_CLICK_MESSAGE = "p#rightClickMessage";
+
+    /** CSS-селектор сообщения после левого клика */
+    static final String LEFT_CLICK_MESSAGE = "p#dynamicClickMessage";
 
     /** Кнопка для двойного клика */
     @FindBy(css = "button#doubleClickBtn")
-    private WebElement doubleClickButton;
+    WebElement doubleClickButton;
 
     /** Кнопка для клика правой кнопкой мыши */
     @FindBy(css = "button#rightClickBtn")
-    private WebElement rightClickButton;
+    WebElement rightClickButton;
 
     /** Кнопка для левого клика */
     @FindBy(xpath = "//button[text()= 'Click Me']")
-    private WebElement leftClickButton;
-
-    /** Текстовый лейбл для сообщения после двойного клика */
-    @FindBy(css = "p#doubleClickMessage")
-    private WebElement doubleClickTextLabel;
-
-    /** Текстовый лейбл для сообщения после клика правой кнопкой мыши */
-    @FindBy(css = "p#rightClickMessage")
-    private WebElement rightClickTextLabel;
-
-    /** Текстовый лейбл для сообщения после левого клика */
-    @FindBy(css = "p#dynamicClickMessage")
-    private WebElement leftClickTextLabel;
+    WebElement leftClickButton;
 
     /**
      * Конструктор ButtonsPage инициализирует элементы страницы и экземпляр WebDriverWait.
@@ -59,7 +57,7 @@ public class ButtonsPage extends BasePage {
      */
     public ButtonsPage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+        ButtonsPageElements.initElements(this, driver);
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(30));
     }
 
@@ -67,6 +65,7 @@ public class ButtonsPage extends BasePage {
      * Открывает страницу с кнопками.
      */
     @Step("Open the Buttons page")
+    @PerformanceBudget(15_000)
     public void open() {
         log.info("Slf4j Logging: Opening the Buttons page");
         driver.get(this.URL);
@@ -76,6 +75,7 @@ public class ButtonsPage extends BasePage {
      * Выполняет двойной клик по кнопке для двойного клика.
      */
     @Step("Double-click the double-click button")
+    @PerformanceBudget(5_000)
     public void doubleClickButton() {
         log.info("Slf4j Logging: Waiting for the double-click button to be clickable");
         wait.until(ExpectedConditions.elementToBeClickable(doubleClickButton));
@@ -87,6 +87,7 @@ public class ButtonsPage extends BasePage {
      * Выполняет клик правой кнопкой мыши по кнопке для клика правой кнопкой мыши.
      */
     @Step("Right-click the right-click button")
+    @PerformanceBudget(5_000)
     public void rightClickButton() {
         log.info("Slf4j Logging: Waiting for the right-click button to be clickable");
         wait.until(ExpectedConditions.elementToBeClickable(rightClickButton));
@@ -98,6 +99,7 @@ public class ButtonsPage extends BasePage {
      * Выполняет левый клик по кнопке "Click Me".
      */
     @Step("Left-click the click-me button")
+    @PerformanceBudget(5_000)
     public void leftClickButton() {
         log.info("Slf4j Logging: Waiting for the click-me button to be clickable");
         wait.until(ExpectedConditions.elementToBeClickable(leftClickButton)).click();
@@ -111,8 +113,8 @@ public class ButtonsPage extends BasePage {
      */
     @Step("Get the double-click message")
     public String getDoubleClickMessage() {
-        log.info("Slf4j Logging: Waiting for the double-click message to be visible");
-        String text = wait.until(ExpectedConditions.visibilityOf(doubleClickTextLabel)).getText();
+        log.info("Slf4j Logging: Waiting for the double-click message to appear");
+        String text = waitForSnapshotText(wait, DOUBLE_CLICK_MESSAGE);
         log.info("Slf4j Logging: Retrieved double-click message: {}", text);
         return text;
     }
@@ -124,8 +126,8 @@ public class ButtonsPage extends BasePage {
      */
     @Step("Get the right-click message")
     public String getRightClickMessage() {
-        log.info("Slf4j Logging: Waiting for the right-click message to be visible");
-        String text = wait.until(ExpectedConditions.visibilityOf(rightClickTextLabel)).getText();
+        log.info("Slf4j Logging: Waiting for the right-click message to appear");
+        String text = waitForSnapshotText(wait, RIGHT_CLICK_MESSAGE);
         log.info("Slf4j Logging: Retrieved right-click message: {}", text);
         return text;
     }
@@ -137,8 +139,8 @@ public class ButtonsPage extends BasePage {
      */
     @Step("Get the dynamic click message")
     public String getLeftClickMessage() {
-        log.info("Slf4j Logging: Waiting for the dynamic click message to be visible");
-        String text = wait.until(ExpectedConditions.visibilityOf(leftClickTextLabel)).getText();
+        log.info("Slf4j Logging: Waiting for the dynamic click message to appear");
+        String text = waitForSnapshotText(wait, LEFT_CLICK_MESSAGE);
         log.info("Slf4j Logging: Retrieved dynamic click message: {}", text);
         return text;
     }
@@ -156,8 +158,9 @@ public class ButtonsPage extends BasePage {
                 .pollingEvery(Duration.ofSeconds(1))
                 .ignoring(NoSuchElementException.class)
                 .until(driver -> {
+                    List<String> presentMessages = getPresentMessages();
                     for (String expectedMessage : expectedMessages) {
-                        if (!isMessagePresent(expectedMessage)) {
+                        if (!presentMessages.contains(expectedMessage)) {
                             log.info("Slf4j Logging: Message not found: {}", expectedMessage);
                             return false;
                         }
@@ -168,16 +171,19 @@ public class ButtonsPage extends BasePage {
     }
 
     /**
-     * Проверяет, присутствует ли указанное сообщение на странице.
+     * Получает тексты всех сообщений на странице.
+     * <p>
+     * Вместо трех отдельных запросов к WebDriver сообщения читаются из одного снимка DOM,
+     * поэтому каждая итерация ожидания стоит одного обращения к браузеру и не добавляет шаг Allure.
      *
-     * @param message сообщение для проверки
-     * @return true, если сообщение присутствует, иначе false
+     * @return тексты сообщений после двойного, правого и левого клика (пустая строка, если сообщения нет)
      */
-    private boolean isMessagePresent(String message) {
+    private List<String> getPresentMessages() {
+        DomSnapshot messages = captureSnapshot();
         return List.of(
-                doubleClickTextLabel.getText(),
-                rightClickTextLabel.getText(),
-                leftClickTextLabel.getText()
-        ).contains(message);
+                messages.text(DOUBLE_CLICK_MESSAGE),
+                messages.text(RIGHT_CLICK_MESSAGE),
+                messages.text(LEFT_CLICK_MESSAGE)
+        );
     }
 }
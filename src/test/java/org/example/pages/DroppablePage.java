@@ -2,11 +2,11 @@ package org.example.pages;
 
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
+import org.example.perf.PerformanceBudget;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
@@ -25,15 +25,18 @@ public class DroppablePage extends BasePage {
     private final WebDriverWait wait;
 
     /** URL страницы для выполнения действий Drag and Drop */
-    public String URL = "https://demoqa.com/droppable";
+    public String URL = baseUrl() + "/droppable";
 
     /** Элемент, который нужно перетаскивать */
     @FindBy(css = "div#draggable")
-    private WebElement elementForDragAndDrop;
+    WebElement elementForDragAndDrop;
+
+    /** CSS-селектор контейнера, общий для {@code @FindBy} и снимка DOM */
+    static final String DROPPABLE_CONTAINER = "div.drop-box";
 
     /** Контейнер, куда нужно перетащить элемент */
-    @FindBy(css = "div.drop-box")
-    private WebElement droppableContainer;
+    @FindBy(css = DROPPABLE_CONTAINER)
+    WebElement droppableContainer;
 
     /**
      * Конструктор DroppablePage инициализирует элементы страницы и экземпляр WebDriverWait.
@@ -42,7 +45,7 @@ public class DroppablePage extends BasePage {
      */
     public DroppablePage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+        DroppablePageElements.initElements(this, driver);
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(30));
     }
 
@@ -50,6 +53,7 @@ public class DroppablePage extends BasePage {
      * Открывает страницу для выполнения действий Drag and Drop.
      */
     @Step("open the Droppable page")
+    @PerformanceBudget(15_000)
     public void open() {
         log.info("Slf4j Logging: Opening the Droppable page");
         driver.get(this.URL);
@@ -59,6 +63,7 @@ public class DroppablePage extends BasePage {
      * Выполняет действие перетаскивания элемента в контейнер.
      */
     @Step("execute Drag&Drop action")
+    @PerformanceBudget(5_000)
     public void dragAndDrop() {
         log.info("Slf4j Logging: Waiting for the draggable element to be visible");
         wait.until(ExpectedConditions.visibilityOf(elementForDragAndDrop));
@@ -76,9 +81,8 @@ public class DroppablePage extends BasePage {
      */
     @Step("get droppable element text")
     public String getDroppableElementText() {
-        log.info("Slf4j Logging: Waiting for the droppable container to be visible");
-        WebElement element = wait.until(ExpectedConditions.visibilityOf(droppableContainer));
-        String text = element.getText();
+        log.info("Slf4j Logging: Waiting for the droppable container text");
+        String text = waitForSnapshotText(wait, DROPPABLE_CONTAINER);
         log.info("Slf4j Logging: Retrieved text from the droppable container: {}", text);
         return text;
     }
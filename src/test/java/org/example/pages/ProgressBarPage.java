@@ -2,11 +2,11 @@ package org.example.pages;
 
 import io.qameta.allure.Step;
 import lombok.extern.slf4j.Slf4j;
+import org.example.perf.PerformanceBudget;
 import org.example.pages.conditions.ProgressBarValueCondition;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
@@ -25,15 +25,15 @@ public class ProgressBarPage extends BasePage {
     private final WebDriverWait wait;
 
     /** URL страницы с прогресс-баром */
-    public String URL = "https://demoqa.com/progress-bar";
+    public String URL = baseUrl() + "/progress-bar";
 
     /** Прогресс-бар элемент */
     @FindBy(css = "div#progressBar div")
-    private WebElement progressBar;
+    WebElement progressBar;
 
     /** Кнопка "Start/Stop" */
     @FindBy(css = "button#startStopButton")
-    private WebElement startStopButton;
+    WebElement startStopButton;
 
     /**
      * Конструктор ProgressBarPage инициализирует элементы страницы и экземпляр WebDriverWait.
@@ -42,7 +42,7 @@ public class ProgressBarPage extends BasePage {
      */
     public ProgressBarPage(WebDriver driver) {
         super(driver);
-        PageFactory.initElements(driver, this);
+        ProgressBarPageElements.initElements(this, driver);
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(30));
     }
 
@@ -50,6 +50,7 @@ public class ProgressBarPage extends BasePage {
      * Открывает страницу с прогресс-баром.
      */
     @Step("Open the Progress Bar page")
+    @PerformanceBudget(15_000)
     public void open() {
         log.info("Slf4j Logging: Opening the Progress Bar page");
         driver.get(this.URL);
@@ -59,6 +60,7 @@ public class ProgressBarPage extends BasePage {
      * Нажимает кнопку "Start/Stop".
      */
     @Step("Click the start/stop button")
+    @PerformanceBudget(5_000)
     public void clickStartStopButton() {
         log.info("Slf4j Logging: Waiting for the start/stop button to be clickable");
         wait.until(ExpectedConditions.elementToBeClickable(startStopButton)).click();
@@ -0,0 +1,214 @@
+package org.example.pages.elements;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Coordinates;
+import org.openqa.selenium.interactions.Locatable;
+
+import java.util.List;
+
+/**
+ * Класс LazyElement - элемент страницы, который ищется по локатору при каждом обращении.
+ * <p>
+ * Повторяет поведение прокси {@code PageFactory}: элемент не ищется при создании страницы, а каждый вызов
+ * метода выполняет {@link SearchContext#findElement(By)} и вызывает тот же метод найденного элемента.
+ * С {@code @CacheLookup} элемент ищется один раз. В отличие от прокси вызов прямой, без
+ * {@code InvocationHandler} и рефлексии. Экземпляры создает код, сгенерированный
+ * {@code org.example.processor.PageElementsProcessor}.
+ * <p>
+ * Реализует {@link WrapsElement} и {@link Locatable}, поэтому передается в {@code Actions}
+ * и JavaScript так же, как найденный элемент. {@link #equals(Object)} и {@link #hashCode()}, как и у прокси,
+ * сравнивают найденный элемент, поэтому тоже выполняют поиск.
+ */
+public final class LazyElement implements WebElement, WrapsElement, Locatable {
+
+    /** Контекст поиска элемента */
+    private final SearchContext context;
+
+    /** Локатор элемента */
+    private final By by;
+
+    /** Имя поля страницы для сообщений */
+    private final String name;
+
+    /** Признак однократного поиска элемента */
+    private final boolean cacheLookup;
+
+    /** Найденный элемент при однократном поиске */
+    private WebElement cachedElement;
+
+    /**
+     * Конструктор LazyElement.
+     *
+     * @param context     контекст поиска элемента
+     * @param by          локатор элемента
+     * @param name        имя поля страницы
+     * @param cacheLookup true, чтобы искать элемент один раз
+     */
+    public LazyElement(SearchContext context, By by, String name, boolean cacheLookup) {
+        this.context = context;
+        this.by = by;
+        this.name = name;
+        this.cacheLookup = cacheLookup;
+    }
+
+    /**
+     * Находит элемент по локатору.
+     *
+     * @return найденный элемент
+     * @throws org.openqa.selenium.NoSuchElementException если элемент не найден
+     */
+    @Override
+    public WebElement getWrappedElement() {
+        if (!cacheLookup) {
+            return context.findElement(by);
+        }
+        if (cachedElement == null) {
+            cachedElement = context.findElement(by);
+        }
+        return cachedElement;
+    }
+
+    @Override
+    public void click() {
+        getWrappedElement().click();
+    }
+
+    @Override
+    public void submit() {
+        getWrappedElement().submit();
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        getWrappedElement().sendKeys(keysToSend);
+    }
+
+    @Override
+    public void clear() {
+        getWrappedElement().clear();
+    }
+
+    @Override
+    public String getTagName() {
+        return getWrappedElement().getTagName();
+    }
+
+    @Override
+    public String getDomProperty(String name) {
+        return getWrappedElement().getDomProperty(name);
+    }
+
+    @Override
+    public String getDomAttribute(String name) {
+        return getWrappedElement().getDomAttribute(name);
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        return getWrappedElement().getAttribute(name);
+    }
+
+    @Override
+    public String getAriaRole() {
+        return getWrappedElement().getAriaRole();
+    }
+
+    @Override
+    public String getAccessibleName() {
+        return getWrappedElement().getAccessibleName();
+    }
+
+    @Override
+    public boolean isSelected() {
+        return getWrappedElement().isSelected();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return getWrappedElement().isEnabled();
+    }
+
+    @Override
+    public String getText() {
+        return getWrappedElement().getText();
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        return getWrappedElement().findElements(by);
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        return getWrappedElement().findElement(by);
+    }
+
+    @Override
+    public SearchContext getShadowRoot() {
+        return getWrappedElement().getShadowRoot();
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return getWrappedElement().isDisplayed();
+    }
+
+    @Override
+    public Point getLocation() {
+        return getWrappedElement().getLocation();
+    }
+
+    @Override
+    public Dimension getSize() {
+        return getWrappedElement().getSize();
+    }
+
+    @Override
+    public Rectangle getRect() {
+        return getWrappedElement().getRect();
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        return getWrappedElement().getCssValue(propertyName);
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> target) {
+        return getWrappedElement().getScreenshotAs(target);
+    }
+
+    @Override
+    public Coordinates getCoordinates() {
+        return ((Locatable) getWrappedElement()).getCoordinates();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof WebElement)) {
+            return false;
+        }
+        Object other = obj instanceof WrapsElement ? ((WrapsElement) obj).getWrappedElement() : obj;
+        return getWrappedElement().equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return getWrappedElement().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "Lazy element " + name + " (" + by + ")";
+    }
+}
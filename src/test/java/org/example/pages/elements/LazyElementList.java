@@ -0,0 +1,79 @@
+package org.example.pages.elements;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Класс LazyElementList - список элементов страницы, который ищется по локатору при каждом обращении.
+ * <p>
+ * Аналог прокси списка {@code PageFactory}: каждый вызов {@link #get(int)}, {@link #size()} или
+ * {@link #iterator()} выполняет {@link SearchContext#findElements(By)}, с {@code @CacheLookup} список
+ * ищется один раз. Экземпляры создает код, сгенерированный {@code org.example.processor.PageElementsProcessor}.
+ */
+public final class LazyElementList extends AbstractList<WebElement> {
+
+    /** Контекст поиска элементов */
+    private final SearchContext context;
+
+    /** Локатор элементов */
+    private final By by;
+
+    /** Имя поля страницы для сообщений */
+    private final String name;
+
+    /** Признак однократного поиска элементов */
+    private final boolean cacheLookup;
+
+    /** Найденные элементы при однократном поиске */
+    private List<WebElement> cachedElements;
+
+    /**
+     * Конструктор LazyElementList.
+     *
+     * @param context     контекст поиска элементов
+     * @param by          локатор элементов
+     * @param name        имя поля страницы
+     * @param cacheLookup true, чтобы искать элементы один раз
+     */
+    public LazyElementList(SearchContext context, By by, String name, boolean cacheLookup) {
+        this.context = context;
+        this.by = by;
+        this.name = name;
+        this.cacheLookup = cacheLookup;
+    }
+
+    @Override
+    public WebElement get(int index) {
+        return elements().get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements().size();
+    }
+
+    @Override
+    public Iterator<WebElement> iterator() {
+        return elements().iterator();
+    }
+
+    @Override
+    public String toString() {
+        return "Lazy element list " + name + " (" + by + ")";
+    }
+
+    private List<WebElement> elements() {
+        if (!cacheLookup) {
+            return context.findElements(by);
+        }
+        if (cachedElements == null) {
+            cachedElements = context.findElements(by);
+        }
+        return cachedElements;
+    }
+}
@@ -0,0 +1,202 @@
+package org.example.pages.snapshot;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Класс DomSnapshot представляет собой снимок DOM страницы (или ее части), разобранный в памяти JVM.
+ * <p>
+ * Снимок получается одним запросом к браузеру, после чего любые проверки по CSS и XPath выполняются
+ * локально, без дополнительных обращений к WebDriver. Элементы индексируются по id, классу и тегу,
+ * поэтому простые селекторы вида {@code #id}, {@code tag#id}, {@code .class}, {@code tag.class}
+ * и {@code tag} разрешаются через индекс, а остальные - через CSS-движок jsoup.
+ * <p>
+ * Снимок отражает состояние DOM на момент создания и не обновляется. Метод {@link #text(String)}
+ * возвращает весь текст элемента, включая скрытый, в отличие от {@code WebElement.getText()}.
+ */
+public class DomSnapshot {
+
+    /** Шаблон простых селекторов, которые разрешаются через индексы */
+    private static final Pattern SIMPLE_SELECTOR = Pattern.compile("^([a-zA-Z][\\w-]*)?(?:#([\\w-]+))?(?:\\.([\\w-]+))?$");
+
+    /** Разобранный документ */
+    private final Document document;
+
+    /** Индекс элементов по id */
+    private final Map<String, Element> byId = new HashMap<>();
+
+    /** Индекс элементов по классу */
+    private final Map<String, List<Element>> byClass = new HashMap<>();
+
+    /** Индекс элементов по тегу */
+    private final Map<String, List<Element>> byTag = new HashMap<>();
+
+    /**
+     * Конструктор DomSnapshot строит индексы по разобранному документу.
+     *
+     * @param document разобранный документ
+     */
+    private DomSnapshot(Document document) {
+        this.document = document;
+        for (Element element : document.getAllElements()) {
+            String id = element.id();
+            if (!id.isEmpty()) {
+                byId.putIfAbsent(id, element);
+            }
+            for (String className : element.classNames()) {
+                byClass.computeIfAbsent(className, key -> new ArrayList<>()).add(element);
+            }
+            byTag.computeIfAbsent(element.normalName(), key -> new ArrayList<>()).add(element);
+        }
+    }
+
+    /**
+     * Разбирает полный HTML-документ.
+     *
+     * @param html сериализованный документ
+     * @return снимок DOM
+     */
+    public static DomSnapshot parse(String html) {
+        return new DomSnapshot(Jsoup.parse(html));
+    }
+
+    /**
+     * Разбирает фрагмент HTML, например outerHTML отдельного элемента.
+     *
+     * @param html сериализованный фрагмент
+     * @return снимок DOM
+     */
+    public static DomSnapshot parseFragment(String html) {
+        return new DomSnapshot(Jsoup.parseBodyFragment(html));
+    }
+
+    /**
+     * Возвращает элемент по id.
+     *
+     * @param id идентификатор элемента
+     * @return элемент или пустой Optional, если элемента нет
+     */
+    public Optional<Element> byId(String id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    /**
+     * Возвращает элементы с указанным классом.
+     *
+     * @param className имя класса
+     * @return список элементов в порядке документа
+     */
+    public List<Element> byClass(String className) {
+        return Collections.unmodifiableList(byClass.getOrDefault(className, List.of()));
+    }
+
+    /**
+     * Возвращает элементы с указанным тегом.
+     *
+     * @param tagName имя тега
+     * @return список элементов в порядке документа
+     */
+    public List<Element> byTag(String tagName) {
+        return Collections.unmodifiableList(byTag.getOrDefault(tagName.toLowerCase(), List.of()));
+    }
+
+    /**
+     * Находит элементы по CSS-селектору.
+     *
+     * @param cssSelector CSS-селектор
+     * @return найденные элементы в порядке документа
+     */
+    public List<Element> select(String cssSelector) {
+        Matcher matcher = SIMPLE_SELECTOR.matcher(cssSelector.trim());
+        if (!matcher.matches() || cssSelector.isBlank()) {
+            return document.select(cssSelector);
+        }
+        String tag = matcher.group(1);
+        String id = matcher.group(2);
+        String className = matcher.group(3);
+        List<Element> candidates;
+        if (id != null) {
+            candidates = byId(id).map(List::of).orElse(List.of());
+        } else if (className != null) {
+            candidates = byClass(className);
+        } else {
+            candidates = byTag(tag);
+        }
+        List<Element> result = new ArrayList<>(candidates.size());
+        for (Element element : candidates) {
+            if ((tag == null || element.normalName().equalsIgnoreCase(tag))
+                    && (className == null || element.hasClass(className))) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Находит элементы по XPath-выражению.
+     *
+     * @param xpath XPath-выражение
+     * @return найденные элементы
+     */
+    public Elements selectXpath(String xpath) {
+        return document.selectXpath(xpath);
+    }
+
+    /**
+     * Проверяет, есть ли в снимке элемент, подходящий под CSS-селектор.
+     *
+     * @param cssSelector CSS-селектор
+     * @return true, если элемент найден
+     */
+    public boolean exists(String cssSelector) {
+        return !select(cssSelector).isEmpty();
+    }
+
+    /**
+     * Возвращает нормализованный текст первого элемента, подходящего под CSS-селектор.
+     *
+     * @param cssSelector CSS-селектор
+     * @return текст элемента или пустая строка, если элемент не найден
+     */
+    public String text(String cssSelector) {
+        List<Element> elements = select(cssSelector);
+        return elements.isEmpty() ? "" : elements.get(0).text();
+    }
+
+    /**
+     * Возвращает значение атрибута первого элемента, подходящего под CSS-селектор.
+     *
+     * @param cssSelector CSS-селектор
+     * @param attribute   имя атрибута
+     * @return значение атрибута или null, если элемент или атрибут не найден
+     */
+    public String attr(String cssSelector, String attribute) {
+        List<Element> elements = select(cssSelector);
+        return elements.isEmpty() || !elements.get(0).hasAttr(attribute) ? null : elements.get(0).attr(attribute);
+    }
+
+    /**
+     * Возвращает тексты всех элементов, подходящих под CSS-селектор.
+     *
+     * @param cssSelector CSS-селектор
+     * @return список текстов в порядке документа
+     */
+    public List<String> texts(String cssSelector) {
+        List<String> texts = new ArrayList<>();
+        for (Element element : select(cssSelector)) {
+            texts.add(element.text());
+        }
+        return texts;
+    }
+}
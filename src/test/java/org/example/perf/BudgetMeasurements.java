@@ -0,0 +1,67 @@
+package org.example.perf;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Класс BudgetMeasurements накапливает замеры методов с {@link PerformanceBudget} в рамках текущего теста.
+ * <p>
+ * Замеры привязаны к потоку теста: {@link PerformanceBudgetExtension} открывает сбор перед тестом
+ * и закрывает после него. Вызовы вне теста (например, из потоков нагрузочного прогона) не записываются.
+ */
+public class BudgetMeasurements {
+
+    /** Замеры текущего теста по именам шагов */
+    private static final ThreadLocal<Map<String, StepMeasurement>> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров этого класса.
+     */
+    private BudgetMeasurements() {
+    }
+
+    /**
+     * Открывает сбор замеров в текущем потоке.
+     */
+    public static void start() {
+        CURRENT.set(new LinkedHashMap<>());
+    }
+
+    /**
+     * Закрывает сбор замеров в текущем потоке и возвращает накопленные замеры.
+     *
+     * @return замеры текущего теста в порядке первого вызова шагов
+     */
+    public static Collection<StepMeasurement> finish() {
+        Map<String, StepMeasurement> measurements = CURRENT.get();
+        CURRENT.remove();
+        return measurements == null ? List.of() : measurements.values();
+    }
+
+    /**
+     * Записывает замер, если в текущем потоке открыт сбор.
+     *
+     * @param step         имя шага
+     * @param budgetMillis бюджет шага в миллисекундах
+     * @param nanos        длительность вызова в наносекундах
+     */
+    public static void record(String step, long budgetMillis, long nanos) {
+        Map<String, StepMeasurement> measurements = CURRENT.get();
+        if (measurements != null) {
+            measurements.computeIfAbsent(step, key -> new StepMeasurement(step, budgetMillis)).add(nanos);
+        }
+    }
+
+    /**
+     * Возвращает замер шага в текущем тесте без закрытия сбора.
+     *
+     * @param step имя шага
+     * @return замер шага или null, если шаг не вызывался или сбор не открыт
+     */
+    public static StepMeasurement current(String step) {
+        Map<String, StepMeasurement> measurements = CURRENT.get();
+        return measurements == null ? null : measurements.get(step);
+    }
+}
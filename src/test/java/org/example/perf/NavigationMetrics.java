@@ -0,0 +1,124 @@
+package org.example.perf;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Класс NavigationMetrics содержит метрики загрузки одной страницы, снятые в браузере после навигации.
+ * <p>
+ * Все времена отсчитываются от начала навигации и указаны в миллисекундах. Отсутствующая метрика
+ * (например, LCP в браузере без поддержки Largest Contentful Paint) хранится как {@link Double#NaN}.
+ */
+public class NavigationMetrics {
+
+    /** Имена метрик в порядке вывода и хранения */
+    public static final List<String> METRICS = List.of(
+            "ttfb", "domContentLoaded", "load", "fcp", "lcp", "cls", "resources", "transferKb", "slowestResource");
+
+    /** Заголовок CSV-файла истории */
+    public static final String CSV_HEADER = "timestamp,page," + String.join(",", METRICS);
+
+    /** Ключ страницы: хост и путь без порта, параметров и фрагмента */
+    private final String page;
+
+    /** Время замера, миллисекунды с начала эпохи */
+    private final long timestamp;
+
+    /** Значения метрик по именам */
+    private final Map<String, Double> values;
+
+    /**
+     * Конструктор NavigationMetrics.
+     *
+     * @param page      ключ страницы, см. {@link #pageKey(String)}
+     * @param timestamp время замера в миллисекундах с начала эпохи
+     * @param values    значения метрик по именам, неизвестные имена игнорируются
+     */
+    public NavigationMetrics(String page, long timestamp, Map<String, Double> values) {
+        this.page = page;
+        this.timestamp = timestamp;
+        Map<String, Double> ordered = new LinkedHashMap<>();
+        for (String metric : METRICS) {
+            ordered.put(metric, values.getOrDefault(metric, Double.NaN));
+        }
+        this.values = Collections.unmodifiableMap(ordered);
+    }
+
+    /**
+     * Возвращает ключ страницы для URL.
+     * <p>
+     * Порт не входит в ключ, чтобы история локального FixtureServer со случайным портом
+     * накапливалась между прогонами.
+     *
+     * @param url URL страницы
+     * @return ключ страницы вида {@code host/path}
+     */
+    public static String pageKey(String url) {
+        try {
+            URI uri = URI.create(url);
+            String path = uri.getPath() == null || uri.getPath().isEmpty() ? "/" : uri.getPath();
+            return uri.getHost() == null ? path : uri.getHost() + path;
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    /**
+     * Восстанавливает замер из строки CSV.
+     *
+     * @param header столбцы заголовка файла
+     * @param row    строка файла
+     * @return замер
+     */
+    public static NavigationMetrics fromCsvRow(List<String> header, String row) {
+        String[] cells = row.split(",", -1);
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (int i = 2; i < header.size() && i < cells.length; i++) {
+            values.put(header.get(i), cells[i].isEmpty() ? Double.NaN : Double.parseDouble(cells[i]));
+        }
+        return new NavigationMetrics(cells[1], Long.parseLong(cells[0]), values);
+    }
+
+    public String getPage() {
+        return page;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Возвращает значение метрики.
+     *
+     * @param metric имя метрики из {@link #METRICS}
+     * @return значение или {@link Double#NaN}, если метрика не снята
+     */
+    public double get(String metric) {
+        return values.getOrDefault(metric, Double.NaN);
+    }
+
+    /**
+     * Возвращает строку для CSV-файла истории.
+     *
+     * @return строка в формате {@link #CSV_HEADER}
+     */
+    public String toCsvRow() {
+        List<String> cells = new ArrayList<>();
+        cells.add(String.valueOf(timestamp));
+        cells.add(page);
+        values.values().forEach(value -> cells.add(value.isNaN() ? "" : String.format(Locale.ROOT, "%.3f", value)));
+        return String.join(",", cells);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(page);
+        values.forEach((metric, value) -> builder.append(String.format(Locale.ROOT, " %s=%.1f", metric, value)));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,187 @@
+package org.example.perf;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Класс NavigationMetricsStore хранит историю метрик загрузки по страницам между прогонами
+ * и строит сводки по перцентилям.
+ * <p>
+ * История хранится в CSV-файле с заголовком {@link NavigationMetrics#CSV_HEADER}; новые замеры дописываются
+ * в конец файла. В памяти для каждой страницы держатся последние {@code window} замеров, по ним считаются
+ * p50, p75 (перцентиль, по которому оцениваются Web Vitals) и p95.
+ */
+@Slf4j
+public class NavigationMetricsStore {
+
+    /** Перцентили сводки */
+    private static final double[] PERCENTILES = {50, 75, 95};
+
+    /** Экземпляр по умолчанию, настроенный системными свойствами */
+    private static NavigationMetricsStore defaultStore;
+
+    /** Файл истории */
+    private final Path file;
+
+    /** Размер окна истории на страницу */
+    private final int window;
+
+    /** Последние замеры по страницам */
+    private final Map<String, Deque<NavigationMetrics>> history = new TreeMap<>();
+
+    /**
+     * Конструктор NavigationMetricsStore загружает историю из файла, если он существует.
+     *
+     * @param file   файл истории
+     * @param window количество последних замеров на страницу для сводки
+     */
+    public NavigationMetricsStore(Path file, int window) {
+        this.file = file;
+        this.window = window;
+        load();
+    }
+
+    /**
+     * Возвращает хранилище по умолчанию.
+     * <p>
+     * Настраивается системными свойствами {@code perf.navigation.file} (по умолчанию
+     * {@code perf-baselines/navigation-metrics.csv}) и {@code perf.navigation.window} (100).
+     *
+     * @return хранилище по умолчанию
+     */
+    public static synchronized NavigationMetricsStore getDefault() {
+        if (defaultStore == null) {
+            defaultStore = new NavigationMetricsStore(
+                    Path.of(System.getProperty("perf.navigation.file", "perf-baselines/navigation-metrics.csv")),
+                    Integer.getInteger("perf.navigation.window", 100));
+        }
+        return defaultStore;
+    }
+
+    /**
+     * Добавляет замер в историю и дописывает его в файл.
+     *
+     * @param metrics замер
+     */
+    public synchronized void add(NavigationMetrics metrics) {
+        remember(metrics);
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            List<String> lines = new ArrayList<>();
+            if (!Files.exists(file)) {
+                lines.add(NavigationMetrics.CSV_HEADER);
+            }
+            lines.add(metrics.toCsvRow());
+            Files.write(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write navigation metrics " + file, e);
+        }
+    }
+
+    /**
+     * Возвращает последние замеры страницы.
+     *
+     * @param page ключ страницы
+     * @return замеры от старых к новым
+     */
+    public synchronized List<NavigationMetrics> history(String page) {
+        return new ArrayList<>(history.getOrDefault(page, new ArrayDeque<>()));
+    }
+
+    /**
+     * Возвращает перцентиль метрики страницы по последним замерам.
+     *
+     * @param page       ключ страницы
+     * @param metric     имя метрики
+     * @param percentile перцентиль от 0 до 100
+     * @return значение перцентиля или {@link Double#NaN}, если замеров метрики нет
+     */
+    public synchronized double percentile(String page, String metric, double percentile) {
+        return percentile(values(page, metric), percentile);
+    }
+
+    /**
+     * Возвращает текстовую сводку перцентилей всех метрик страницы.
+     *
+     * @param page ключ страницы
+     * @return таблица сводки
+     */
+    public synchronized String summary(String page) {
+        StringBuilder summary = new StringBuilder(String.format("%s, %d runs%n%-18s %10s %10s %10s%n",
+                page, history.getOrDefault(page, new ArrayDeque<>()).size(), "metric", "p50", "p75", "p95"));
+        for (String metric : NavigationMetrics.METRICS) {
+            double[] values = values(page, metric);
+            summary.append(String.format("%-18s", metric));
+            for (double percentile : PERCENTILES) {
+                summary.append(String.format(" %10.1f", percentile(values, percentile)));
+            }
+            summary.append(System.lineSeparator());
+        }
+        return summary.toString();
+    }
+
+    /**
+     * Вычисляет перцентиль методом ближайшего ранга.
+     *
+     * @param values     значения
+     * @param percentile перцентиль от 0 до 100
+     * @return значение перцентиля или {@link Double#NaN} для пустого массива
+     */
+    static double percentile(double[] values, double percentile) {
+        if (values.length == 0) {
+            return Double.NaN;
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.min(sorted.length, Math.max(1, rank)) - 1];
+    }
+
+    private double[] values(String page, String metric) {
+        return history.getOrDefault(page, new ArrayDeque<>()).stream()
+                .mapToDouble(metrics -> metrics.get(metric))
+                .filter(value -> !Double.isNaN(value))
+                .toArray();
+    }
+
+    private void remember(NavigationMetrics metrics) {
+        Deque<NavigationMetrics> values = history.computeIfAbsent(metrics.getPage(), key -> new ArrayDeque<>());
+        values.addLast(metrics);
+        while (values.size() > window) {
+            values.removeFirst();
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try {
+            List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            if (lines.isEmpty()) {
+                return;
+            }
+            List<String> header = Arrays.asList(lines.get(0).split(","));
+            lines.stream().skip(1).filter(line -> !line.isBlank())
+                    .forEach(line -> remember(NavigationMetrics.fromCsvRow(header, line)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read navigation metrics " + file, e);
+        }
+        log.info("Slf4j Logging: Loaded navigation metrics history for {} pages from {}", history.size(), file);
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.perf;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Класс NavigationTimingCollector снимает метрики загрузки страницы средствами браузера.
+ * <p>
+ * Используются Navigation Timing Level 2 (TTFB, DOMContentLoaded, load), Resource Timing (количество ресурсов,
+ * объем передачи, самый медленный ресурс) и Paint/LCP/Layout Shift через {@code PerformanceObserver} с
+ * {@code buffered: true}, поэтому записи, появившиеся до вызова, тоже учитываются. Скрипт асинхронный:
+ * он дожидается события load и дает наблюдателям {@code settleMillis} на доставку буферизованных записей.
+ * <p>
+ * CLS считается как сумма сдвигов без недавнего ввода пользователя, без разбиения на сессионные окна -
+ * для коротких функциональных проверок этого достаточно.
+ */
+public class NavigationTimingCollector {
+
+    /** Асинхронный скрипт сбора метрик; последний аргумент - callback WebDriver */
+    private static final String SCRIPT = """
+            var settleMillis = arguments[0];
+            var callback = arguments[arguments.length - 1];
+            var result = {};
+            var supported = (window.PerformanceObserver && PerformanceObserver.supportedEntryTypes) || [];
+            function observe(type, handler) {
+                if (supported.indexOf(type) < 0) {
+                    return null;
+                }
+                var observer = new PerformanceObserver(function (list) { list.getEntries().forEach(handler); });
+                observer.observe({type: type, buffered: true});
+                return observer;
+            }
+            function collect() {
+                var observers = [
+                    observe('largest-contentful-paint', function (entry) { result.lcp = entry.startTime; }),
+                    observe('layout-shift', function (entry) {
+                        if (!entry.hadRecentInput) { result.cls = (result.cls || 0) + entry.value; }
+                    })
+                ];
+                if (supported.indexOf('layout-shift') >= 0) { result.cls = 0; }
+                setTimeout(function () {
+                    observers.forEach(function (observer) {
+                        if (observer) { observer.takeRecords(); observer.disconnect(); }
+                    });
+                    var nav = performance.getEntriesByType('navigation')[0];
+                    if (nav) {
+                        result.ttfb = nav.responseStart - nav.startTime;
+                        result.domContentLoaded = nav.domContentLoadedEventEnd - nav.startTime;
+                        result.load = nav.loadEventEnd - nav.startTime;
+                    }
+                    performance.getEntriesByType('paint').forEach(function (entry) {
+                        if (entry.name === 'first-contentful-paint') { result.fcp = entry.startTime; }
+                    });
+                    var resources = performance.getEntriesByType('resource');
+                    var transfer = nav ? nav.transferSize || 0 : 0;
+                    var slowest = 0;
+                    resources.forEach(function (entry) {
+                        transfer += entry.transferSize || 0;
+                        slowest = Math.max(slowest, entry.duration);
+                    });
+                    result.resources = resources.length;
+                    result.transferKb = transfer / 1024;
+                    result.slowestResource = slowest;
+                    callback(result);
+                }, settleMillis);
+            }
+            if (document.readyState === 'complete') {
+                setTimeout(collect, 0);
+            } else {
+                window.addEventListener('load', function () { setTimeout(collect, 0); });
+            }
+            """;
+
+    /** Время ожидания доставки буферизованных записей наблюдателям, в миллисекундах */
+    private final long settleMillis;
+
+    /**
+     * Конструктор NavigationTimingCollector.
+     *
+     * @param settleMillis время ожидания записей наблюдателей в миллисекундах
+     */
+    public NavigationTimingCollector(long settleMillis) {
+        this.settleMillis = settleMillis;
+    }
+
+    /**
+     * Создает сборщик по системному свойству {@code perf.navigation.settleMillis} (по умолчанию 50).
+     *
+     * @return сборщик метрик навигации
+     */
+    public static NavigationTimingCollector fromSystemProperties() {
+        return new NavigationTimingCollector(Long.getLong("perf.navigation.settleMillis", 50));
+    }
+
+    /**
+     * Проверяет, включен ли сбор метрик навигации (системное свойство {@code perf.navigation.enabled},
+     * по умолчанию true).
+     *
+     * @return true, если сбор включен
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("perf.navigation.enabled", "true"));
+    }
+
+    /**
+     * Снимает метрики загрузки текущей страницы.
+     *
+     * @param driver экземпляр WebDriver с поддержкой JavaScript
+     * @param url    URL, на который была выполнена навигация
+     * @return метрики загрузки страницы
+     */
+    public NavigationMetrics collect(WebDriver driver, String url) {
+        Object raw = ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT, settleMillis);
+        Map<String, Double> values = new LinkedHashMap<>();
+        if (raw instanceof Map<?, ?> map) {
+            map.forEach((key, value) -> {
+                if (value instanceof Number number) {
+                    values.put(String.valueOf(key), number.doubleValue());
+                }
+            });
+        }
+        return new NavigationMetrics(NavigationMetrics.pageKey(url), System.currentTimeMillis(), values);
+    }
+}
@@ -0,0 +1,223 @@
+package org.example.perf;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Класс PerformanceBaseline хранит скользящую базовую линию длительности шагов между прогонами
+ * и определяет статистически значимые регрессии.
+ * <p>
+ * Для каждого шага хранятся медианы последних {@code window} успешных тестов. Текущая медиана считается
+ * регрессией, если она одновременно больше {@code mean + sigma * stdDev} и больше {@code mean * (1 + minRatio)}
+ * базовой линии. Второе условие отсекает ложные срабатывания на шагах с очень стабильным временем.
+ * Решение принимается только при наличии не менее {@link #MIN_SAMPLES} значений. Медианы, отмеченные
+ * как регрессия или превысившие бюджет, в базовую линию не попадают, иначе устойчивое замедление
+ * через несколько прогонов стало бы новой нормой.
+ * <p>
+ * Базовая линия хранится в файле properties: {@code имя шага = значение,значение,...}.
+ */
+@Slf4j
+public class PerformanceBaseline {
+
+    /** Минимальное количество значений для оценки регрессии */
+    public static final int MIN_SAMPLES = 5;
+
+    /** Экземпляр по умолчанию, настроенный системными свойствами */
+    private static PerformanceBaseline defaultBaseline;
+
+    /** Файл базовой линии */
+    private final Path file;
+
+    /** Размер скользящего окна */
+    private final int window;
+
+    /** Порог регрессии в стандартных отклонениях */
+    private final double sigma;
+
+    /** Минимальный относительный рост для регрессии */
+    private final double minRatio;
+
+    /** Значения базовой линии по шагам, в миллисекундах */
+    private final Map<String, Deque<Double>> history = new TreeMap<>();
+
+    /**
+     * Конструктор PerformanceBaseline загружает базовую линию из файла, если он существует.
+     *
+     * @param file     файл базовой линии
+     * @param window   размер скользящего окна
+     * @param sigma    порог регрессии в стандартных отклонениях
+     * @param minRatio минимальный относительный рост для регрессии
+     */
+    public PerformanceBaseline(Path file, int window, double sigma, double minRatio) {
+        this.file = file;
+        this.window = window;
+        this.sigma = sigma;
+        this.minRatio = minRatio;
+        load();
+    }
+
+    /**
+     * Возвращает базовую линию по умолчанию.
+     * <p>
+     * Настраивается системными свойствами {@code perf.baselineFile} (по умолчанию
+     * {@code perf-baselines/step-budgets.properties}), {@code perf.baselineWindow} (20),
+     * {@code perf.regressionSigma} (3) и {@code perf.regressionMinRatio} (0.2).
+     *
+     * @return базовая линия по умолчанию
+     */
+    public static synchronized PerformanceBaseline getDefault() {
+        if (defaultBaseline == null) {
+            defaultBaseline = new PerformanceBaseline(
+                    Path.of(System.getProperty("perf.baselineFile", "perf-baselines/step-budgets.properties")),
+                    Integer.getInteger("perf.baselineWindow", 20),
+                    Double.parseDouble(System.getProperty("perf.regressionSigma", "3")),
+                    Double.parseDouble(System.getProperty("perf.regressionMinRatio", "0.2")));
+        }
+        return defaultBaseline;
+    }
+
+    /**
+     * Сравнивает текущую медиану шага с базовой линией.
+     *
+     * @param step         имя шага
+     * @param medianMillis текущая медиана в миллисекундах
+     * @return результат сравнения
+     */
+    public synchronized Comparison compare(String step, double medianMillis) {
+        double[] values = history.getOrDefault(step, new ArrayDeque<>()).stream().mapToDouble(Double::doubleValue).toArray();
+        double mean = Arrays.stream(values).average().orElse(0);
+        double variance = Arrays.stream(values).map(value -> (value - mean) * (value - mean)).sum()
+                / Math.max(1, values.length - 1);
+        double stdDev = Math.sqrt(variance);
+        boolean regression = values.length >= MIN_SAMPLES
+                && medianMillis > mean + sigma * stdDev
+                && medianMillis > mean * (1 + minRatio);
+        return new Comparison(values.length, mean, stdDev, regression);
+    }
+
+    /**
+     * Сравнивает текущую медиану шага с базовой линией и добавляет ее в базовую линию, если она не регрессия
+     * и шаг уложился в бюджет.
+     *
+     * @param step             имя шага
+     * @param medianMillis     текущая медиана в миллисекундах
+     * @param withinBudget     true, если шаг уложился в бюджет
+     * @param acceptRegression true, чтобы явно принять регрессию как новую норму
+     * @return результат сравнения с базовой линией до добавления
+     */
+    public synchronized Comparison compareAndAdd(String step, double medianMillis, boolean withinBudget, boolean acceptRegression) {
+        Comparison comparison = compare(step, medianMillis);
+        if (withinBudget && (!comparison.isRegression() || acceptRegression)) {
+            add(step, medianMillis);
+        }
+        return comparison;
+    }
+
+    /**
+     * Добавляет медиану шага в базовую линию и сохраняет файл.
+     *
+     * @param step         имя шага
+     * @param medianMillis медиана в миллисекундах
+     */
+    public synchronized void add(String step, double medianMillis) {
+        Deque<Double> values = history.computeIfAbsent(step, key -> new ArrayDeque<>());
+        values.addLast(medianMillis);
+        while (values.size() > window) {
+            values.removeFirst();
+        }
+        save();
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read performance baseline " + file, e);
+        }
+        for (String step : properties.stringPropertyNames()) {
+            Deque<Double> values = new ArrayDeque<>();
+            for (String value : properties.getProperty(step).split(",")) {
+                if (!value.isBlank()) {
+                    values.addLast(Double.parseDouble(value.trim()));
+                }
+            }
+            history.put(step, values);
+        }
+        log.info("Slf4j Logging: Loaded performance baseline for {} steps from {}", history.size(), file);
+    }
+
+    private void save() {
+        Properties properties = new Properties();
+        history.forEach((step, values) -> properties.setProperty(step,
+                values.stream().map(value -> String.format(Locale.ROOT, "%.1f", value)).collect(Collectors.joining(","))));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(file)) {
+                properties.store(writer, "Rolling baseline of @PerformanceBudget step medians, ms");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write performance baseline " + file, e);
+        }
+    }
+
+    /**
+     * Результат сравнения медианы шага с базовой линией.
+     */
+    public static class Comparison {
+
+        /** Количество значений в базовой линии */
+        private final int samples;
+
+        /** Среднее значение базовой линии, в миллисекундах */
+        private final double meanMillis;
+
+        /** Стандартное отклонение базовой линии, в миллисекундах */
+        private final double stdDevMillis;
+
+        /** Признак статистически значимой регрессии */
+        private final boolean regression;
+
+        Comparison(int samples, double meanMillis, double stdDevMillis, boolean regression) {
+            this.samples = samples;
+            this.meanMillis = meanMillis;
+            this.stdDevMillis = stdDevMillis;
+            this.regression = regression;
+        }
+
+        public int getSamples() {
+            return samples;
+        }
+
+        public double getMeanMillis() {
+            return meanMillis;
+        }
+
+        public double getStdDevMillis() {
+            return stdDevMillis;
+        }
+
+        public boolean isRegression() {
+            return regression;
+        }
+    }
+}
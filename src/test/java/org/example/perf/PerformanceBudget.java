@@ -0,0 +1,40 @@
+package org.example.perf;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Аннотация PerformanceBudget задает бюджет времени выполнения для метода page-объекта.
+ * <p>
+ * Аннотация ставится рядом с {@code @Step}. Вызовы измеряются аспектом {@link PerformanceBudgetAspect}
+ * и проверяются расширением {@link PerformanceBudgetExtension} после каждого теста:
+ * превышение бюджета и статистически значимая регрессия относительно базовой линии прошлых прогонов
+ * попадают в отчет Allure.
+ * <pre>
+ * &#64;Step("Open the Progress Bar page")
+ * &#64;PerformanceBudget(10_000)
+ * public void open() { ... }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface PerformanceBudget {
+
+    /**
+     * Бюджет времени выполнения одного вызова, в миллисекундах.
+     *
+     * @return бюджет в миллисекундах
+     */
+    long value();
+
+    /**
+     * Имя шага в отчете и в базовой линии. По умолчанию - {@code ИмяКласса.имяМетода}.
+     *
+     * @return имя шага
+     */
+    String name() default "";
+}
@@ -0,0 +1,42 @@
+package org.example.perf;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+/**
+ * Аспект PerformanceBudgetAspect измеряет время выполнения методов с аннотацией {@link PerformanceBudget}.
+ * <p>
+ * Аспект вплетается так же, как аспекты Allure для {@code @Step}: агентом aspectjweaver при загрузке классов
+ * (регистрация в {@code META-INF/aop.xml}). Вызов, завершившийся исключением, тоже записывается.
+ */
+@Aspect
+public class PerformanceBudgetAspect {
+
+    /**
+     * Измеряет вызов метода и передает замер в {@link BudgetMeasurements}.
+     *
+     * @param joinPoint точка соединения
+     * @param budget    аннотация с бюджетом
+     * @return результат метода
+     * @throws Throwable исключение, брошенное методом
+     */
+    @Around("execution(* *(..)) && @annotation(budget)")
+    public Object measure(ProceedingJoinPoint joinPoint, PerformanceBudget budget) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            BudgetMeasurements.record(stepName(joinPoint, budget), budget.value(), System.nanoTime() - start);
+        }
+    }
+
+    private static String stepName(ProceedingJoinPoint joinPoint, PerformanceBudget budget) {
+        if (!budget.name().isEmpty()) {
+            return budget.name();
+        }
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        return signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+    }
+}
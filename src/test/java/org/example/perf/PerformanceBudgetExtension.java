@@ -0,0 +1,100 @@
+package org.example.perf;
+
+import io.qameta.allure.Allure;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Расширение JUnit PerformanceBudgetExtension проверяет бюджеты времени шагов с {@link PerformanceBudget}.
+ * <p>
+ * Перед тестом открывается сбор замеров, после теста для каждого шага вычисляется медиана и максимум
+ * и сравниваются с бюджетом и с базовой линией прошлых прогонов ({@link PerformanceBaseline}).
+ * Таблица результатов прикладывается к отчету Allure.
+ * <p>
+ * Поведение настраивается системными свойствами:
+ * <ul>
+ *     <li>{@code perf.failOnBudget} - падать при превышении бюджета (по умолчанию true);</li>
+ *     <li>{@code perf.failOnRegression} - падать при регрессии относительно базовой линии
+ *     (по умолчанию false, регрессия только отмечается в отчете и логе);</li>
+ *     <li>{@code perf.acceptRegressions} - принять медианы с регрессией в базовую линию как новую норму
+ *     (по умолчанию false).</li>
+ * </ul>
+ * Базовая линия пополняется только замерами успешных тестов, уложившихся в бюджет и без регрессии.
+ */
+@Slf4j
+public class PerformanceBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+    /**
+     * Открывает сбор замеров перед тестом.
+     *
+     * @param context контекст теста
+     */
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        BudgetMeasurements.start();
+    }
+
+    /**
+     * Проверяет замеры после теста.
+     *
+     * @param context контекст теста
+     */
+    @Override
+    public void afterEach(ExtensionContext context) {
+        Collection<StepMeasurement> measurements = BudgetMeasurements.finish();
+        if (measurements.isEmpty()) {
+            return;
+        }
+        PerformanceBaseline baseline = PerformanceBaseline.getDefault();
+        boolean testPassed = context.getExecutionException().isEmpty();
+        boolean acceptRegressions = Boolean.getBoolean("perf.acceptRegressions");
+        List<String> overBudget = new ArrayList<>();
+        List<String> regressions = new ArrayList<>();
+        StringBuilder report = new StringBuilder(String.format("%-40s %6s %10s %10s %10s %16s  %s%n",
+                "step", "calls", "median ms", "max ms", "budget ms", "baseline ms", "status"));
+
+        for (StepMeasurement measurement : measurements) {
+            double median = measurement.medianMillis();
+            boolean withinBudget = measurement.maxMillis() <= measurement.getBudgetMillis();
+            PerformanceBaseline.Comparison comparison = testPassed
+                    ? baseline.compareAndAdd(measurement.getStep(), median, withinBudget, acceptRegressions)
+                    : baseline.compare(measurement.getStep(), median);
+            String status = "OK";
+            if (!withinBudget) {
+                status = "OVER BUDGET";
+                overBudget.add(String.format("%s took %.0f ms, budget %d ms",
+                        measurement.getStep(), measurement.maxMillis(), measurement.getBudgetMillis()));
+            }
+            if (comparison.isRegression()) {
+                status = status.equals("OK") ? "REGRESSION" : status + ", REGRESSION";
+                regressions.add(String.format("%s median %.0f ms vs baseline %.0f ± %.0f ms over %d runs",
+                        measurement.getStep(), median, comparison.getMeanMillis(), comparison.getStdDevMillis(), comparison.getSamples()));
+            }
+            report.append(String.format("%-40s %6d %10.0f %10.0f %10d %16s  %s%n",
+                    measurement.getStep(), measurement.getCalls(), median, measurement.maxMillis(), measurement.getBudgetMillis(),
+                    comparison.getSamples() == 0 ? "-" : String.format("%.0f ± %.0f", comparison.getMeanMillis(), comparison.getStdDevMillis()),
+                    status));
+        }
+
+        Allure.addAttachment("Performance budgets", "text/plain", report.toString());
+        log.info("Slf4j Logging: Performance budgets, {} steps measured in {}\n{}", measurements.size(), context.getDisplayName(), report);
+        regressions.forEach(regression -> log.warn("Slf4j Logging: Performance regression: {}", regression));
+
+        List<String> failures = new ArrayList<>();
+        if (Boolean.parseBoolean(System.getProperty("perf.failOnBudget", "true"))) {
+            failures.addAll(overBudget);
+        }
+        if (Boolean.getBoolean("perf.failOnRegression")) {
+            failures.addAll(regressions);
+        }
+        if (!failures.isEmpty()) {
+            throw new AssertionError("Performance budget violated:\n" + String.join("\n", failures));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.example.perf;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Слушатель JUnit Platform StartupTimingListener измеряет задержку от старта JVM до первого теста.
+ * <p>
+ * Задержка включает загрузку классов JUnit, Allure и Selenium и, в режиме по умолчанию, вплетение аспектов
+ * агентом aspectjweaver при загрузке каждого класса. Замер дописывается строкой в CSV-файл
+ * {@code startup.timingFile} вместе с режимом запуска:
+ * {@code ltw} (агент), {@code ctw} (классы вплетены при сборке, профиль ctw) и суффиксом {@code +cds},
+ * если JVM запущена с архивом AppCDS. Режим можно задать явно свойством {@code startup.mode}.
+ * <p>
+ * Регистрация {@code META-INF/services/org.junit.platform.launcher.TestExecutionListener} лежит в
+ * {@code src/test/startup-timing} и попадает в classpath только в профилях startup-timing и cds. Без свойства
+ * {@code startup.timingFile} слушатель ничего не делает. Итог пишется в stderr, а не в лог: первый тест
+ * к этому моменту уже закрыт, и аппендер Allure не может приложить запись к нему.
+ */
+public class StartupTimingListener implements TestExecutionListener {
+
+    /** Заголовок CSV-файла замеров */
+    private static final String CSV_HEADER = "timestamp,mode,jvmToTestPlanMillis,jvmToFirstTestMillis,firstTestMillis";
+
+    /** Признак того, что первый тест уже начался */
+    private final AtomicBoolean firstTestStarted = new AtomicBoolean();
+
+    /** Время от старта JVM до построения плана тестов, в миллисекундах */
+    private volatile long jvmToTestPlanMillis = -1;
+
+    /** Время от старта JVM до первого теста, в миллисекундах */
+    private volatile long jvmToFirstTestMillis = -1;
+
+    /** Время старта первого теста по часам JVM, в наносекундах */
+    private volatile long firstTestStartNanos;
+
+    /** Идентификатор первого теста */
+    private volatile String firstTestId;
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        if (timingFile() == null) {
+            firstTestStarted.set(true);
+            return;
+        }
+        jvmToTestPlanMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier testIdentifier) {
+        if (testIdentifier.isTest() && firstTestStarted.compareAndSet(false, true)) {
+            jvmToFirstTestMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+            firstTestStartNanos = System.nanoTime();
+            firstTestId = testIdentifier.getUniqueId();
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if (testIdentifier.getUniqueId().equals(firstTestId)) {
+            long firstTestMillis = (System.nanoTime() - firstTestStartNanos) / 1_000_000;
+            record(firstTestMillis);
+        }
+    }
+
+    /**
+     * Определяет режим запуска по аргументам JVM.
+     *
+     * @return {@code ltw} или {@code ctw} с суффиксом {@code +cds} при использовании архива AppCDS
+     */
+    public static String detectMode() {
+        String explicit = System.getProperty("startup.mode");
+        if (explicit != null && !explicit.isBlank()) {
+            return explicit;
+        }
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        List<String> arguments = runtime.getInputArguments();
+        boolean agent = arguments.stream().anyMatch(argument -> argument.startsWith("-javaagent:") && argument.contains("aspectjweaver"));
+        boolean cds = arguments.stream().anyMatch(argument -> argument.startsWith("-XX:SharedArchiveFile="));
+        return (agent ? "ltw" : "ctw") + (cds ? "+cds" : "");
+    }
+
+    private void record(long firstTestMillis) {
+        String mode = detectMode();
+        System.err.printf("JVM startup in %s mode: test plan after %d ms, first test after %d ms, first test took %d ms%n",
+                mode, jvmToTestPlanMillis, jvmToFirstTestMillis, firstTestMillis);
+        Path file = timingFile();
+        String row = String.join(",", Instant.now().toString(), mode, String.valueOf(jvmToTestPlanMillis),
+                String.valueOf(jvmToFirstTestMillis), String.valueOf(firstTestMillis));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            List<String> lines = Files.exists(file) ? List.of(row) : List.of(CSV_HEADER, row);
+            Files.write(file, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.printf("Unable to write startup timing to %s: %s%n", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Возвращает файл замеров из свойства {@code startup.timingFile}.
+     *
+     * @return путь к файлу или null, если замер не запрошен
+     */
+    private static Path timingFile() {
+        String file = System.getProperty("startup.timingFile");
+        return file == null || file.isBlank() ? null : Path.of(file);
+    }
+}
@@ -0,0 +1,82 @@
+package org.example.perf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс StepMeasurement содержит замеры одного шага с бюджетом в рамках одного теста.
+ */
+public class StepMeasurement {
+
+    /** Имя шага */
+    private final String step;
+
+    /** Бюджет одного вызова, в миллисекундах */
+    private final long budgetMillis;
+
+    /** Длительности вызовов, в наносекундах */
+    private final List<Long> durations = new ArrayList<>();
+
+    /**
+     * Конструктор StepMeasurement.
+     *
+     * @param step         имя шага
+     * @param budgetMillis бюджет одного вызова в миллисекундах
+     */
+    public StepMeasurement(String step, long budgetMillis) {
+        this.step = step;
+        this.budgetMillis = budgetMillis;
+    }
+
+    /**
+     * Добавляет длительность вызова.
+     *
+     * @param nanos длительность в наносекундах
+     */
+    public void add(long nanos) {
+        durations.add(nanos);
+    }
+
+    public String getStep() {
+        return step;
+    }
+
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+
+    /**
+     * Возвращает количество вызовов шага.
+     *
+     * @return количество вызовов
+     */
+    public int getCalls() {
+        return durations.size();
+    }
+
+    /**
+     * Возвращает медиану длительности вызовов.
+     *
+     * @return медиана в миллисекундах
+     */
+    public double medianMillis() {
+        List<Long> sorted = new ArrayList<>(durations);
+        sorted.sort(null);
+        int size = sorted.size();
+        if (size == 0) {
+            return 0;
+        }
+        double median = size % 2 == 1 ? sorted.get(size / 2) : (sorted.get(size / 2 - 1) + sorted.get(size / 2)) / 2.0;
+        return median / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Возвращает максимальную длительность вызова.
+     *
+     * @return максимум в миллисекундах
+     */
+    public double maxMillis() {
+        return durations.stream().mapToLong(Long::longValue).max().orElse(0) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.soak;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * Класс LeakDetector определяет утечки ресурсов по тренду снимков {@link ResourceSample}.
+ * <p>
+ * Для каждой метрики методом наименьших квадратов вычисляется наклон - прирост за итерацию.
+ * Если наклон превышает порог, метрика считается утекающей. Первые итерации (прогрев)
+ * не учитываются, а при недостаточном количестве снимков решение не принимается.
+ * <p>
+ * Пороги задаются системными свойствами:
+ * <ul>
+ *     <li>{@code soak.maxHeapBytesPerIteration} - по умолчанию 262144 (256 КБ);</li>
+ *     <li>{@code soak.maxDomNodesPerIteration} - по умолчанию 1;</li>
+ *     <li>{@code soak.maxWindowsPerIteration} - по умолчанию 0.05;</li>
+ *     <li>{@code soak.maxProcessesPerIteration} - по умолчанию 0.05;</li>
+ *     <li>{@code soak.maxRssBytesPerIteration} - по умолчанию 1048576 (1 МБ).</li>
+ * </ul>
+ */
+public class LeakDetector {
+
+    /** Минимальное количество снимков после прогрева, необходимое для оценки тренда */
+    public static final int MIN_SAMPLES = 10;
+
+    /** Количество итераций прогрева, которые не учитываются */
+    private final int warmupIterations;
+
+    /** Порог роста JS-кучи, байт за итерацию */
+    private final double maxHeapBytesPerIteration;
+
+    /** Порог роста количества узлов DOM за итерацию */
+    private final double maxDomNodesPerIteration;
+
+    /** Порог роста количества окон за итерацию */
+    private final double maxWindowsPerIteration;
+
+    /** Порог роста количества процессов за итерацию */
+    private final double maxProcessesPerIteration;
+
+    /** Порог роста резидентной памяти процессов браузера, байт за итерацию */
+    private final double maxRssBytesPerIteration;
+
+    public LeakDetector(int warmupIterations, double maxHeapBytesPerIteration, double maxDomNodesPerIteration,
+                        double maxWindowsPerIteration, double maxProcessesPerIteration, double maxRssBytesPerIteration) {
+        this.warmupIterations = warmupIterations;
+        this.maxHeapBytesPerIteration = maxHeapBytesPerIteration;
+        this.maxDomNodesPerIteration = maxDomNodesPerIteration;
+        this.maxWindowsPerIteration = maxWindowsPerIteration;
+        this.maxProcessesPerIteration = maxProcessesPerIteration;
+        this.maxRssBytesPerIteration = maxRssBytesPerIteration;
+    }
+
+    /**
+     * Создает детектор с порогами из системных свойств.
+     *
+     * @return детектор утечек
+     */
+    public static LeakDetector fromSystemProperties() {
+        return new LeakDetector(
+                Integer.getInteger("soak.warmupIterations", 3),
+                Double.parseDouble(System.getProperty("soak.maxHeapBytesPerIteration", "262144")),
+                Double.parseDouble(System.getProperty("soak.maxDomNodesPerIteration", "1")),
+                Double.parseDouble(System.getProperty("soak.maxWindowsPerIteration", "0.05")),
+                Double.parseDouble(System.getProperty("soak.maxProcessesPerIteration", "0.05")),
+                Double.parseDouble(System.getProperty("soak.maxRssBytesPerIteration", "1048576")));
+    }
+
+    /**
+     * Анализирует снимки и возвращает описание найденных утечек.
+     *
+     * @param samples снимки ресурсов в порядке итераций
+     * @return список нарушений порогов, пустой, если утечек нет или снимков недостаточно
+     */
+    public List<String> detect(List<ResourceSample> samples) {
+        List<ResourceSample> measured = samples.subList(Math.min(warmupIterations, samples.size()), samples.size());
+        List<String> violations = new ArrayList<>();
+        if (measured.size() < MIN_SAMPLES) {
+            return violations;
+        }
+        check(measured, "JS heap bytes", ResourceSample::getJsHeapBytes, maxHeapBytesPerIteration, violations);
+        check(measured, "DOM nodes", ResourceSample::getDomNodes, maxDomNodesPerIteration, violations);
+        check(measured, "window handles", ResourceSample::getWindowHandles, maxWindowsPerIteration, violations);
+        check(measured, "chromedriver processes", ResourceSample::getDriverProcesses, maxProcessesPerIteration, violations);
+        check(measured, "browser processes", ResourceSample::getBrowserProcesses, maxProcessesPerIteration, violations);
+        check(measured, "browser RSS bytes", ResourceSample::getBrowserRssBytes, maxRssBytesPerIteration, violations);
+        return violations;
+    }
+
+    /**
+     * Вычисляет наклон линейной регрессии значения метрики по номеру итерации.
+     *
+     * @param samples снимки ресурсов
+     * @param metric  функция получения значения метрики
+     * @return прирост метрики за итерацию
+     */
+    public static double slope(List<ResourceSample> samples, ToLongFunction<ResourceSample> metric) {
+        double meanX = samples.stream().mapToInt(ResourceSample::getIteration).average().orElse(0);
+        double meanY = samples.stream().mapToLong(metric).average().orElse(0);
+        double covariance = 0;
+        double variance = 0;
+        for (ResourceSample sample : samples) {
+            double dx = sample.getIteration() - meanX;
+            covariance += dx * (metric.applyAsLong(sample) - meanY);
+            variance += dx * dx;
+        }
+        return variance == 0 ? 0 : covariance / variance;
+    }
+
+    private static void check(List<ResourceSample> samples, String name, ToLongFunction<ResourceSample> metric,
+                              double threshold, List<String> violations) {
+        if (samples.stream().mapToLong(metric).anyMatch(value -> value < 0)) {
+            return;
+        }
+        double slope = slope(samples, metric);
+        if (slope > threshold) {
+            violations.add(String.format("%s grow by %.2f per iteration (threshold %.2f)", name, slope, threshold));
+        }
+    }
+}
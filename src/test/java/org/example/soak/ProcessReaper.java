@@ -0,0 +1,193 @@
+package org.example.soak;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Класс ProcessReaper находит и завершает процессы chromedriver и Chrome, оставшиеся после закрытия сессии.
+ * <p>
+ * Перед закрытием сессии {@link #snapshot(Set)} запоминает процессы chromedriver и Chrome под автоматизацией,
+ * которые являются потомками текущей JVM или процессов бэкенда. После закрытия {@link #reap(Collection)}
+ * завершает только те из них, что не завершились сами за {@link #EXIT_GRACE}. Процессы других запусков
+ * на той же машине не трогаются, а осиротевшие процессы находятся, даже если их усыновил не init (PID 1),
+ * а, например, {@code systemd --user} или init контейнера.
+ * <p>
+ * Процессы из списка защищенных (например, общий сервис chromedriver) не трогаются.
+ */
+@Slf4j
+public class ProcessReaper {
+
+    /** Время, за которое процессы закрытой сессии должны завершиться сами */
+    public static final Duration EXIT_GRACE = Duration.ofSeconds(3);
+
+    /** Аргументы, с которыми chromedriver запускает браузер */
+    private static final List<String> AUTOMATION_FLAGS = List.of("--enable-automation", "--test-type=webdriver");
+
+    /** PID процессов, которые нельзя завершать */
+    private final Set<Long> protectedPids = new HashSet<>();
+
+    /** Процессы chromedriver и Chrome из снимков, в том числе переставшие быть потомками JVM */
+    private final Set<ProcessHandle> tracked = new HashSet<>();
+
+    /**
+     * Добавляет процесс в список защищенных.
+     *
+     * @param pid PID процесса
+     */
+    public void protect(long pid) {
+        protectedPids.add(pid);
+    }
+
+    /**
+     * Запоминает процессы chromedriver и Chrome под автоматизацией, принадлежащие текущему запуску.
+     *
+     * @param backendPids PID процессов бэкенда (например, общего сервиса chromedriver), чьи потомки тоже учитываются
+     * @return снимок процессов
+     */
+    public Set<ProcessHandle> snapshot(Set<Long> backendPids) {
+        Stream<ProcessHandle> roots = Stream.concat(Stream.of(ProcessHandle.current()),
+                backendPids.stream().map(ProcessHandle::of).flatMap(Optional::stream));
+        Set<ProcessHandle> own = roots
+                .flatMap(root -> Stream.concat(Stream.of(root), root.descendants()))
+                .filter(process -> isDriver(process) || isAutomatedBrowser(process))
+                .collect(Collectors.toCollection(HashSet::new));
+        tracked.removeIf(process -> !process.isAlive());
+        tracked.addAll(own);
+        return own;
+    }
+
+    /**
+     * Возвращает количество процессов chromedriver текущего запуска.
+     *
+     * @return количество процессов chromedriver
+     */
+    public long countDriverProcesses() {
+        return candidates().filter(ProcessReaper::isDriver).count();
+    }
+
+    /**
+     * Возвращает количество процессов Chrome под автоматизацией текущего запуска.
+     *
+     * @return количество процессов браузера
+     */
+    public long countBrowserProcesses() {
+        return candidates().filter(ProcessReaper::isAutomatedBrowser).count();
+    }
+
+    /**
+     * Возвращает суммарную резидентную память (VmRSS) процессов chromedriver и Chrome, запущенных текущей JVM.
+     * <p>
+     * Работает только в Linux, где доступна файловая система /proc.
+     *
+     * @return объем памяти в байтах или -1, если /proc недоступна
+     */
+    public long browserResidentBytes() {
+        if (!Files.isDirectory(Path.of("/proc/self"))) {
+            return -1;
+        }
+        return ProcessHandle.current().descendants()
+                .filter(process -> process.info().command().map(command -> command.contains("chrom")).orElse(false))
+                .mapToLong(ProcessReaper::residentBytes)
+                .sum();
+    }
+
+    /**
+     * Находит процессы из снимка, которые не завершились за {@link #EXIT_GRACE}.
+     *
+     * @param snapshot снимок процессов, сделанный до закрытия сессии
+     * @return список оставшихся процессов, кроме защищенных
+     */
+    public List<ProcessHandle> findLeftovers(Collection<ProcessHandle> snapshot) {
+        long deadline = System.nanoTime() + EXIT_GRACE.toNanos();
+        return snapshot.stream()
+                .filter(process -> !protectedPids.contains(process.pid()))
+                .filter(process -> !exitsBefore(process, deadline))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Завершает оставшиеся процессы из снимка: сначала штатно, затем принудительно.
+     *
+     * @param snapshot снимок процессов, сделанный до закрытия сессии
+     * @return количество завершенных процессов
+     */
+    public int reap(Collection<ProcessHandle> snapshot) {
+        List<ProcessHandle> leftovers = findLeftovers(snapshot);
+        for (ProcessHandle leftover : leftovers) {
+            log.warn("Slf4j Logging: Reaping leftover process {} ({})", leftover.pid(), leftover.info().command().orElse("?"));
+            leftover.destroy();
+        }
+        for (ProcessHandle leftover : leftovers) {
+            CompletableFuture<ProcessHandle> exit = leftover.onExit();
+            try {
+                exit.get(5, TimeUnit.SECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                leftover.destroyForcibly();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                leftover.destroyForcibly();
+            }
+        }
+        return leftovers.size();
+    }
+
+    /**
+     * Процессы текущего запуска: потомки JVM и еще живые процессы из прежних снимков.
+     */
+    private Stream<ProcessHandle> candidates() {
+        return Stream.concat(ProcessHandle.current().descendants(), tracked.stream().filter(ProcessHandle::isAlive)).distinct();
+    }
+
+    private static boolean exitsBefore(ProcessHandle process, long deadline) {
+        try {
+            process.onExit().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return !process.isAlive();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return !process.isAlive();
+        }
+    }
+
+    private static boolean isDriver(ProcessHandle process) {
+        return process.info().command().map(command -> command.endsWith("chromedriver")).orElse(false);
+    }
+
+    private static boolean isAutomatedBrowser(ProcessHandle process) {
+        ProcessHandle.Info info = process.info();
+        boolean chrome = info.command().map(command -> command.contains("chrom") && !command.endsWith("chromedriver")).orElse(false);
+        return chrome && info.arguments()
+                .map(arguments -> Arrays.stream(arguments).anyMatch(AUTOMATION_FLAGS::contains))
+                .orElse(false);
+    }
+
+    private static long residentBytes(ProcessHandle process) {
+        try (Stream<String> lines = Files.lines(Path.of("/proc", String.valueOf(process.pid()), "status"))) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")) * 1024)
+                    .findFirst()
+                    .orElse(0);
+        } catch (IOException | UncheckedIOException e) {
+            // Процесс завершился между поиском и чтением
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.soak;
+
+/**
+ * Класс ResourceSample - снимок потребления ресурсов после одной итерации длительного прогона.
+ * <p>
+ * Значение -1 означает, что метрику не удалось получить (например, {@code performance.memory}
+ * доступен только в Chromium-браузерах).
+ */
+public class ResourceSample {
+
+    /** Заголовок CSV, соответствующий {@link #toCsvRow()} */
+    public static final String CSV_HEADER = "iteration,elapsedSeconds,jsHeapBytes,domNodes,windowHandles,driverProcesses,browserProcesses,browserRssBytes";
+
+    /** Номер итерации, начиная с единицы */
+    private final int iteration;
+
+    /** Время от начала прогона, в секундах */
+    private final long elapsedSeconds;
+
+    /** Используемый объем JS-кучи, в байтах */
+    private final long jsHeapBytes;
+
+    /** Количество узлов DOM на странице */
+    private final long domNodes;
+
+    /** Количество открытых окон и вкладок */
+    private final long windowHandles;
+
+    /** Количество процессов chromedriver */
+    private final long driverProcesses;
+
+    /** Количество процессов браузера, запущенных под автоматизацией */
+    private final long browserProcesses;
+
+    /** Суммарная резидентная память процессов браузера и chromedriver, в байтах */
+    private final long browserRssBytes;
+
+    public ResourceSample(int iteration, long elapsedSeconds, long jsHeapBytes, long domNodes,
+                          long windowHandles, long driverProcesses, long browserProcesses, long browserRssBytes) {
+        this.iteration = iteration;
+        this.elapsedSeconds = elapsedSeconds;
+        this.jsHeapBytes = jsHeapBytes;
+        this.domNodes = domNodes;
+        this.windowHandles = windowHandles;
+        this.driverProcesses = driverProcesses;
+        this.browserProcesses = browserProcesses;
+        this.browserRssBytes = browserRssBytes;
+    }
+
+    public int getIteration() {
+        return iteration;
+    }
+
+    public long getElapsedSeconds() {
+        return elapsedSeconds;
+    }
+
+    public long getJsHeapBytes() {
+        return jsHeapBytes;
+    }
+
+    public long getDomNodes() {
+        return domNodes;
+    }
+
+    public long getWindowHandles() {
+        return windowHandles;
+    }
+
+    public long getDriverProcesses() {
+        return driverProcesses;
+    }
+
+    public long getBrowserProcesses() {
+        return browserProcesses;
+    }
+
+    public long getBrowserRssBytes() {
+        return browserRssBytes;
+    }
+
+    /**
+     * Возвращает снимок в виде строки CSV.
+     *
+     * @return строка CSV без перевода строки
+     */
+    public String toCsvRow() {
+        return iteration + "," + elapsedSeconds + "," + jsHeapBytes + "," + domNodes + ","
+                + windowHandles + "," + driverProcesses + "," + browserProcesses + "," + browserRssBytes;
+    }
+}
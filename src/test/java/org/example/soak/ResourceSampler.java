@@ -0,0 +1,56 @@
+package org.example.soak;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+
+/**
+ * Класс ResourceSampler снимает показатели потребления ресурсов браузерной сессии и процессов.
+ * <p>
+ * Показатели страницы (JS-куча и количество узлов DOM) получаются одним вызовом скрипта.
+ * Для точных значений JS-кучи Chrome нужно запускать с {@code --enable-precise-memory-info}
+ * (свойство {@code webdriver.extraArgs}), иначе {@code performance.memory} округляется.
+ */
+public class ResourceSampler {
+
+    /** Скрипт, возвращающий объем JS-кучи и количество узлов DOM */
+    private static final String PAGE_METRICS_SCRIPT =
+            "return [performance.memory ? performance.memory.usedJSHeapSize : -1, "
+                    + "document.getElementsByTagName('*').length];";
+
+    /** Поиск процессов chromedriver и Chrome */
+    private final ProcessReaper reaper;
+
+    /** Момент начала прогона */
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Конструктор ResourceSampler.
+     *
+     * @param reaper поиск процессов chromedriver и Chrome
+     */
+    public ResourceSampler(ProcessReaper reaper) {
+        this.reaper = reaper;
+    }
+
+    /**
+     * Снимает показатели ресурсов.
+     *
+     * @param iteration номер итерации
+     * @param driver    текущая сессия WebDriver
+     * @return снимок ресурсов
+     */
+    public ResourceSample sample(int iteration, WebDriver driver) {
+        List<?> pageMetrics = (List<?>) ((JavascriptExecutor) driver).executeScript(PAGE_METRICS_SCRIPT);
+        return new ResourceSample(
+                iteration,
+                (System.nanoTime() - startNanos) / 1_000_000_000L,
+                ((Number) pageMetrics.get(0)).longValue(),
+                ((Number) pageMetrics.get(1)).longValue(),
+                driver.getWindowHandles().size(),
+                reaper.countDriverProcesses(),
+                reaper.countBrowserProcesses(),
+                reaper.browserResidentBytes());
+    }
+}
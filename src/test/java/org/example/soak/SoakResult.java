@@ -0,0 +1,60 @@
+package org.example.soak;
+
+import org.example.load.LatencyRecorder;
+
+import java.util.List;
+
+/**
+ * Класс SoakResult содержит результаты длительного прогона: тренд ресурсов, найденные утечки
+ * и количество завершенных осиротевших процессов.
+ */
+public class SoakResult {
+
+    /** Снимки ресурсов по итерациям */
+    private final List<ResourceSample> samples;
+
+    /** Нарушения порогов роста ресурсов */
+    private final List<String> violations;
+
+    /** Количество завершенных осиротевших процессов */
+    private final int reapedProcesses;
+
+    /** Длительность шагов сценариев */
+    private final LatencyRecorder recorder;
+
+    public SoakResult(List<ResourceSample> samples, List<String> violations, int reapedProcesses, LatencyRecorder recorder) {
+        this.samples = List.copyOf(samples);
+        this.violations = List.copyOf(violations);
+        this.reapedProcesses = reapedProcesses;
+        this.recorder = recorder;
+    }
+
+    public List<ResourceSample> getSamples() {
+        return samples;
+    }
+
+    public List<String> getViolations() {
+        return violations;
+    }
+
+    public int getReapedProcesses() {
+        return reapedProcesses;
+    }
+
+    public LatencyRecorder getRecorder() {
+        return recorder;
+    }
+
+    /**
+     * Возвращает тренд ресурсов в формате CSV.
+     *
+     * @return CSV со снимками ресурсов по итерациям
+     */
+    public String trendCsv() {
+        StringBuilder csv = new StringBuilder(ResourceSample.CSV_HEADER).append('\n');
+        for (ResourceSample sample : samples) {
+            csv.append(sample.toCsvRow()).append('\n');
+        }
+        return csv.toString();
+    }
+}
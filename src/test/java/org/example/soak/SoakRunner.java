@@ -0,0 +1,134 @@
+package org.example.soak;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.load.LatencyRecorder;
+import org.example.load.LoadScenario;
+import org.example.utils.WebDriverProvider;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Класс SoakRunner многократно повторяет сценарии на переиспользуемой браузерной сессии
+ * и отслеживает тренд потребления ресурсов.
+ * <p>
+ * Сессия берется из {@link WebDriverProvider#getDriver()} и пересоздается каждые {@code recycleEvery} итераций
+ * через {@link WebDriverProvider#closeDriver()}. Перед каждым закрытием {@link ProcessReaper} запоминает процессы
+ * chromedriver и Chrome текущего запуска и после закрытия завершает те, что остались висеть; общий сервис chromedriver бэкенда
+ * ({@link WebDriverProvider#getBackendProcesses()}) не трогается. В конце прогона {@link LeakDetector}
+ * проверяет тренды на утечки.
+ * <p>
+ * Параметры задаются системными свойствами:
+ * <ul>
+ *     <li>{@code soak.durationMinutes} - длительность прогона (по умолчанию 60);</li>
+ *     <li>{@code soak.maxIterations} - максимальное количество итераций (по умолчанию без ограничения);</li>
+ *     <li>{@code soak.recycleEvery} - через сколько итераций пересоздавать сессию (по умолчанию 10).</li>
+ * </ul>
+ */
+@Slf4j
+public class SoakRunner {
+
+    /** Длительность прогона */
+    private final Duration duration;
+
+    /** Максимальное количество итераций */
+    private final int maxIterations;
+
+    /** Через сколько итераций пересоздавать сессию */
+    private final int recycleEvery;
+
+    /**
+     * Конструктор SoakRunner.
+     *
+     * @param duration      длительность прогона
+     * @param maxIterations максимальное количество итераций
+     * @param recycleEvery  через сколько итераций пересоздавать сессию
+     */
+    public SoakRunner(Duration duration, int maxIterations, int recycleEvery) {
+        this.duration = duration;
+        this.maxIterations = maxIterations;
+        this.recycleEvery = Math.max(1, recycleEvery);
+    }
+
+    /**
+     * Создает SoakRunner по системным свойствам.
+     *
+     * @return экземпляр SoakRunner
+     */
+    public static SoakRunner fromSystemProperties() {
+        return new SoakRunner(
+                Duration.ofMinutes(Long.getLong("soak.durationMinutes", 60)),
+                Integer.getInteger("soak.maxIterations", Integer.MAX_VALUE),
+                Integer.getInteger("soak.recycleEvery", 10));
+    }
+
+    /**
+     * Выполняет длительный прогон.
+     *
+     * @param scenarios сценарии одной итерации
+     * @return результаты прогона
+     */
+    public SoakResult run(List<LoadScenario> scenarios) {
+        log.info("Slf4j Logging: Starting soak run for {} min, recycling the session every {} iterations",
+                duration.toMinutes(), recycleEvery);
+        ProcessReaper reaper = new ProcessReaper();
+        ResourceSampler sampler = new ResourceSampler(reaper);
+        LatencyRecorder recorder = new LatencyRecorder();
+        List<ResourceSample> samples = new ArrayList<>();
+        int reaped = 0;
+        long deadline = System.nanoTime() + duration.toNanos();
+        try {
+            WebDriver driver = WebDriverProvider.getDriver();
+            for (int iteration = 1; iteration <= maxIterations && System.nanoTime() < deadline; iteration++) {
+                for (LoadScenario scenario : scenarios) {
+                    try {
+                        scenario.run(driver, recorder);
+                    } catch (RuntimeException e) {
+                        log.warn("Slf4j Logging: Soak iteration {} failed scenario '{}': {}", iteration, scenario.name(), e.getMessage());
+                    }
+                }
+                try {
+                    ResourceSample sample = sampler.sample(iteration, driver);
+                    samples.add(sample);
+                    log.info("Slf4j Logging: Soak resources: {}", sample.toCsvRow());
+                } catch (WebDriverException e) {
+                    log.warn("Slf4j Logging: Unable to sample resources on iteration {}: {}", iteration, e.getMessage());
+                }
+                if (iteration % recycleEvery == 0) {
+                    log.info("Slf4j Logging: Recycling the browser session after iteration {}", iteration);
+                    reaped += closeAndReap(reaper);
+                    driver = WebDriverProvider.getDriver();
+                }
+            }
+        } finally {
+            reaped += closeAndReap(reaper);
+        }
+
+        List<String> violations = new ArrayList<>(LeakDetector.fromSystemProperties().detect(samples));
+        if (reaped > 0) {
+            violations.add(reaped + " orphaned chromedriver/Chrome processes were reaped");
+        }
+        violations.forEach(violation -> log.warn("Slf4j Logging: Soak leak detected: {}", violation));
+        return new SoakResult(samples, violations, reaped, recorder);
+    }
+
+    /**
+     * Закрывает сессию и завершает процессы, которые принадлежали ей и не завершились сами.
+     * <p>
+     * Если закрытие сессии работает, ее процессы завершаются сами и результат равен нулю.
+     *
+     * @param reaper поиск и завершение процессов
+     * @return количество процессов, которые пришлось завершить
+     */
+    public static int closeAndReap(ProcessReaper reaper) {
+        Set<Long> backendPids = WebDriverProvider.getBackendProcesses();
+        backendPids.forEach(reaper::protect);
+        Set<ProcessHandle> before = reaper.snapshot(backendPids);
+        WebDriverProvider.closeDriver();
+        return reaper.reap(before);
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.tests;
+
+import org.example.pages.snapshot.DomSnapshot;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс DomSnapshotTests проверяет локальный разбор и поиск по снимку DOM без запуска браузера.
+ */
+public class DomSnapshotTests {
+
+    /** Разметка, похожая на страницу с кнопками после всех кликов */
+    private static final String BUTTONS_HTML = """
+            <html><body>
+              <div class="col-md-6 buttons">
+                <button id="doubleClickBtn" class="btn btn-primary">Double Click Me</button>
+                <button id="rightClickBtn" class="btn btn-primary">Right Click Me</button>
+                <button class="btn btn-primary">Click Me</button>
+                <p id="doubleClickMessage">You have done a double click</p>
+                <p id="rightClickMessage">You have done a right click</p>
+                <p id="dynamicClickMessage">You have done a dynamic click</p>
+              </div>
+              <div id="droppable" class="drop-box ui-state-highlight"><p>Dropped!</p></div>
+            </body></html>
+            """;
+
+    /**
+     * Проверяет поиск по индексам id, класса и тега.
+     */
+    @Test
+    void testIndexedLookups() {
+        DomSnapshot snapshot = DomSnapshot.parse(BUTTONS_HTML);
+        assertThat(snapshot.byId("rightClickBtn")).isPresent();
+        assertThat(snapshot.byClass("btn")).hasSize(3);
+        assertThat(snapshot.byTag("p")).hasSize(4);
+        assertThat(snapshot.text("p#doubleClickMessage")).isEqualTo("You have done a double click");
+        assertThat(snapshot.text("div.drop-box")).isEqualTo("Dropped!");
+        assertThat(snapshot.text("span#missing")).isEmpty();
+        assertThat(snapshot.exists("button#dynamicClickMessage")).isFalse();
+    }
+
+    /**
+     * Проверяет поиск по сложным CSS-селекторам, XPath и атрибутам.
+     */
+    @Test
+    void testCssAndXpathQueries() {
+        DomSnapshot snapshot = DomSnapshot.parse(BUTTONS_HTML);
+        assertThat(snapshot.texts("div.buttons > p")).containsExactly(
+                "You have done a double click",
+                "You have done a right click",
+                "You have done a dynamic click");
+        assertThat(snapshot.selectXpath("//button[text()= 'Click Me']")).hasSize(1);
+        assertThat(snapshot.attr("div.drop-box", "id")).isEqualTo("droppable");
+    }
+
+    /**
+     * Проверяет разбор фрагмента, полученного из outerHTML отдельного элемента.
+     */
+    @Test
+    void testFragment() {
+        DomSnapshot snapshot = DomSnapshot.parseFragment("<div class=\"progress-bar\" aria-valuenow=\"51\">51%</div>");
+        assertThat(snapshot.attr(".progress-bar", "aria-valuenow")).isEqualTo("51");
+        assertThat(snapshot.text("div")).isEqualTo("51%");
+    }
+}
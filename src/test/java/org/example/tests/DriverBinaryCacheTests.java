@@ -0,0 +1,58 @@
+package org.example.tests;
+
+import org.example.utils.backend.DriverBinaries;
+import org.example.utils.backend.DriverBinaryCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс DriverBinaryCacheTests проверяет кэш путей к chromedriver и Chrome на поддельных бинарных файлах.
+ */
+public class DriverBinaryCacheTests {
+
+    /**
+     * Проверяет, что найденные пути переиспользуются между запусками и ищутся заново после изменения файла.
+     */
+    @Test
+    void testCachedBinariesAreRevalidatedByFileMetadata(@TempDir Path directory) throws IOException {
+        Path driver = executable(directory.resolve("chromedriver"));
+        Path browser = executable(directory.resolve("chrome"));
+        Path cacheFile = directory.resolve("cache").resolve("driver-binaries.properties");
+        AtomicInteger resolutions = new AtomicInteger();
+        Function<ChromeOptions, DriverBinaries> resolver = options -> {
+            resolutions.incrementAndGet();
+            return new DriverBinaries(driver.toString(), "ChromeDriver 126.0", browser.toString(), "Chromium 126.0");
+        };
+
+        DriverBinaries first = new DriverBinaryCache(cacheFile, resolver).resolve(new ChromeOptions());
+        DriverBinaries second = new DriverBinaryCache(cacheFile, resolver).resolve(new ChromeOptions());
+        assertThat(resolutions).hasValue(1);
+        assertThat(second.getDriverPath()).isEqualTo(first.getDriverPath());
+        assertThat(second.getBrowserVersion()).isEqualTo("Chromium 126.0");
+
+        Files.writeString(browser, "# updated\n", StandardOpenOption.APPEND);
+        new DriverBinaryCache(cacheFile, resolver).resolve(new ChromeOptions());
+        assertThat(resolutions).hasValue(2);
+
+        ChromeOptions beta = new ChromeOptions();
+        beta.setBrowserVersion("beta");
+        new DriverBinaryCache(cacheFile, resolver).resolve(beta);
+        assertThat(resolutions).hasValue(3);
+    }
+
+    private static Path executable(Path file) throws IOException {
+        Files.writeString(file, "#!/bin/sh\necho 1.0\n");
+        file.toFile().setExecutable(true);
+        return file;
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.tests;
+
+import org.example.utils.backend.DriverBackend;
+import org.example.utils.backend.DriverBackends;
+import org.example.utils.backend.SessionMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс GridStandaloneTests проверяет создание и завершение сессии через локальный Selenium Grid standalone.
+ * <p>
+ * Тест запускает Grid и браузер, поэтому включается только свойством {@code grid.enabled=true}:
+ * {@code mvn test -Dtest=GridStandaloneTests -Dgrid.enabled=true}.
+ */
+@EnabledIfSystemProperty(named = "grid.enabled", matches = "true")
+public class GridStandaloneTests {
+
+    /** Бэкенд сессий на локальном Grid */
+    private DriverBackend backend;
+
+    /**
+     * Создает и завершает сессию через бэкенд {@code webdriver.backend=grid-standalone}.
+     */
+    @Test
+    void testSessionThroughGridStandalone() {
+        SessionMetrics metrics = new SessionMetrics();
+        System.setProperty("webdriver.backend", "grid-standalone");
+        System.setProperty("webdriver.maxSessions", "1");
+        backend = DriverBackends.fromSystemProperties(metrics);
+        assertThat(backend.name()).isEqualTo("grid-standalone");
+
+        WebDriver driver = backend.startSession(new ChromeOptions().addArguments("--headless=new"));
+        try {
+            assertThat(((RemoteWebDriver) driver).getSessionId()).isNotNull();
+            driver.get("about:blank");
+            assertThat(driver.getCurrentUrl()).isEqualTo("about:blank");
+        } finally {
+            backend.stopSession(driver);
+        }
+        assertThat(metrics.summary()).contains("sessions=1");
+    }
+
+    /**
+     * Останавливает локальный Grid и сбрасывает свойства бэкенда.
+     */
+    @AfterEach
+    void shutdownGrid() {
+        if (backend != null) {
+            backend.shutdown();
+        }
+        System.clearProperty("webdriver.backend");
+        System.clearProperty("webdriver.maxSessions");
+    }
+}
@@ -0,0 +1,77 @@
+package org.example.tests;
+
+import org.example.load.LatencyRecorder;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Класс LatencyRecorderTests проверяет гистограммы шагов, счетчики ошибок и шкалу пропускной способности
+ * на синтетических длительностях без браузера.
+ */
+public class LatencyRecorderTests {
+
+    /** Часы, которые двигает тест */
+    private final AtomicLong clock = new AtomicLong();
+
+    /** Регистратор на часах теста */
+    private final LatencyRecorder recorder = new LatencyRecorder(clock::get);
+
+    /**
+     * Проверяет перцентили шага с длительностями от 1 до 100 мс.
+     */
+    @Test
+    void testPercentilesOfRecordedSteps() {
+        for (int millis = 1; millis <= 100; millis++) {
+            recorder.record("open", TimeUnit.MILLISECONDS.toNanos(millis), false);
+        }
+        assertThat(recorder.getTotalCount()).isEqualTo(100);
+        assertThat(recorder.percentileMillis("open", 50)).isCloseTo(50, within(0.1));
+        assertThat(recorder.percentileMillis("open", 99)).isCloseTo(99, within(0.1));
+        assertThat(recorder.percentileMillis("open", 100)).isCloseTo(100, within(0.1));
+        assertThat(recorder.percentileMillis("missing", 50)).isZero();
+        assertThat(recorder.latencyReport())
+                .contains("p50 ms")
+                .containsPattern("open\\s+100\\s+0\\s+50\\.5\\s+50\\.0\\s+90\\.0\\s+99\\.0\\s+100\\.0");
+    }
+
+    /**
+     * Проверяет, что упавший шаг записывается с ошибкой, а исключение пробрасывается дальше.
+     */
+    @Test
+    void testFailedStepIsCountedAndRethrown() {
+        assertThat(recorder.step("click", () -> {
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(20));
+            return "ok";
+        })).isEqualTo("ok");
+        assertThatThrownBy(() -> recorder.step("click", () -> {
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(40));
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+
+        assertThat(recorder.getTotalCount()).isEqualTo(2);
+        assertThat(recorder.getErrorCount()).isEqualTo(1);
+        assertThat(recorder.getErrorRate()).isEqualTo(0.5);
+        assertThat(recorder.percentileMillis("click", 100)).isCloseTo(40, within(0.1));
+    }
+
+    /**
+     * Проверяет строки CSV пропускной способности, включая секунды без шагов.
+     */
+    @Test
+    void testThroughputCsvFillsEmptySeconds() {
+        assertThat(recorder.throughputCsv()).isEqualTo("second,steps\n");
+
+        recorder.record("open", 1000, false);
+        recorder.record("open", 1000, false);
+        clock.set(TimeUnit.MILLISECONDS.toNanos(2500));
+        recorder.record("click", 1000, true);
+
+        assertThat(recorder.throughputCsv()).isEqualTo("second,steps\n0,2\n1,0\n2,1\n");
+    }
+}
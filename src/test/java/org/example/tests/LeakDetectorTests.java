@@ -0,0 +1,61 @@
+package org.example.tests;
+
+import org.example.soak.LeakDetector;
+import org.example.soak.ResourceSample;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Класс LeakDetectorTests проверяет определение утечек по наклону тренда на синтетических снимках.
+ */
+public class LeakDetectorTests {
+
+    /** Детектор с прогревом в 2 итерации и порогами 1000 байт, 1 узел, 0.05 окна и процесса, 1 МБ RSS */
+    private final LeakDetector detector = new LeakDetector(2, 1000, 1, 0.05, 0.05, 1_048_576);
+
+    /**
+     * Проверяет, что стабильные метрики с шумом не считаются утечкой.
+     */
+    @Test
+    void testStableResourcesAreNotALeak() {
+        List<ResourceSample> samples = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            long noise = i % 2 == 0 ? 5000 : -5000;
+            samples.add(new ResourceSample(i, i, 10_000_000 + noise, 120 + i % 3, 1, 1, 1, 300_000_000 + noise));
+        }
+        assertThat(detector.detect(samples)).isEmpty();
+    }
+
+    /**
+     * Проверяет, что растущие узлы DOM и окна считаются утечкой.
+     */
+    @Test
+    void testGrowingResourcesAreALeak() {
+        List<ResourceSample> samples = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            samples.add(new ResourceSample(i, i, 10_000_000, 120 + 3L * i, 1 + i / 5, 1, 1, 300_000_000));
+        }
+        assertThat(LeakDetector.slope(samples, ResourceSample::getDomNodes)).isCloseTo(3.0, within(1e-9));
+        assertThat(detector.detect(samples))
+                .hasSize(2)
+                .anyMatch(violation -> violation.startsWith("DOM nodes"))
+                .anyMatch(violation -> violation.startsWith("window handles"));
+    }
+
+    /**
+     * Проверяет, что при недостаточном количестве снимков решение не принимается.
+     */
+    @Test
+    void testTooFewSamples() {
+        List<ResourceSample> samples = new ArrayList<>();
+        for (int i = 1; i <= LeakDetector.MIN_SAMPLES; i++) {
+            samples.add(new ResourceSample(i, i, 10_000_000L * i, 120L * i, i, i, i, 300_000_000L * i));
+        }
+        assertThat(detector.detect(samples)).isEmpty();
+    }
+}
@@ -0,0 +1,52 @@
+package org.example.tests;
+
+import org.example.load.LoadProfile;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Класс LoadProfileTests проверяет параметры нагрузочного прогона и равномерный разгон пользователей.
+ */
+public class LoadProfileTests {
+
+    /**
+     * Проверяет, что пользователи стартуют равномерно в течение времени разгона.
+     */
+    @Test
+    void testUsersStartEvenlyDuringRampUp() {
+        LoadProfile profile = new LoadProfile(4, Duration.ofSeconds(10), Duration.ofMillis(500), Duration.ofSeconds(60));
+
+        assertThat(profile.startDelayOf(0)).isEqualTo(Duration.ZERO);
+        assertThat(profile.startDelayOf(1)).isEqualTo(Duration.ofMillis(2500));
+        assertThat(profile.startDelayOf(3)).isEqualTo(Duration.ofMillis(7500));
+        assertThat(new LoadProfile(3, Duration.ZERO, Duration.ZERO, Duration.ofSeconds(1)).startDelayOf(2)).isEqualTo(Duration.ZERO);
+    }
+
+    /**
+     * Проверяет значения по умолчанию, чтение системных свойств и отказ от профиля без пользователей.
+     */
+    @Test
+    void testProfileFromSystemProperties() {
+        assertThat(LoadProfile.fromSystemProperties())
+                .hasToString("users=4, rampUp=10s, thinkTime=500ms, duration=60s");
+
+        System.setProperty("load.users", "2");
+        System.setProperty("load.rampUpSeconds", "4");
+        try {
+            LoadProfile profile = LoadProfile.fromSystemProperties();
+            assertThat(profile.getUsers()).isEqualTo(2);
+            assertThat(profile.startDelayOf(1)).isEqualTo(Duration.ofSeconds(2));
+        } finally {
+            System.clearProperty("load.users");
+            System.clearProperty("load.rampUpSeconds");
+        }
+
+        assertThatThrownBy(() -> new LoadProfile(0, Duration.ZERO, Duration.ZERO, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("users must be positive");
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.tests;
+
+import org.example.load.LatencyRecorder;
+import org.example.load.LoadProfile;
+import org.example.load.LoadRunner;
+import org.example.load.LoadScenario;
+import org.example.utils.WebDriverProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс LoadRunnerTests проверяет цикл виртуальных пользователей на бэкенде-заглушке без браузера.
+ */
+public class LoadRunnerTests {
+
+    /**
+     * Проверяет, что пользователи сверх {@code webdriver.maxSessions} получают сессию после освобождения слота,
+     * а все сессии в конце прогона завершаются.
+     */
+    @Test
+    void testQueuedUsersGetSessionsAndAllSessionsAreReleased() {
+        System.setProperty("webdriver.backend", QueuedDriverBackendTests.StubBackend.class.getName());
+        System.setProperty("webdriver.maxSessions", "2");
+        System.setProperty("webdriver.queueTimeoutSeconds", "5");
+        WebDriverProvider.shutdownBackend();
+        int stoppedBefore = QueuedDriverBackendTests.StubBackend.STOPPED.get();
+        LoadScenario scenario = new LoadScenario() {
+            @Override
+            public String name() {
+                return "noop";
+            }
+
+            @Override
+            public void run(WebDriver driver, LatencyRecorder recorder) {
+                recorder.step("noop", () -> { });
+            }
+        };
+
+        LatencyRecorder recorder = new LoadRunner(new LoadProfile(3, Duration.ZERO, Duration.ofMillis(50), Duration.ofMillis(300)))
+                .run(List.of(scenario));
+
+        assertThat(recorder.percentileMillis("session.create", 100)).isGreaterThanOrEqualTo(250);
+        assertThat(recorder.latencyReport()).containsPattern("session\\.create\\s+3\\s+0");
+        assertThat(recorder.getErrorCount()).isZero();
+        assertThat(QueuedDriverBackendTests.StubBackend.STOPPED.get() - stoppedBefore).isEqualTo(3);
+    }
+
+    /**
+     * Останавливает бэкенд-заглушку и сбрасывает его свойства.
+     */
+    @AfterEach
+    void resetBackend() {
+        WebDriverProvider.shutdownBackend();
+        System.clearProperty("webdriver.backend");
+        System.clearProperty("webdriver.maxSessions");
+        System.clearProperty("webdriver.queueTimeoutSeconds");
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.tests;
+
+import io.qameta.allure.Allure;
+import org.example.load.LatencyRecorder;
+import org.example.load.LoadProfile;
+import org.example.load.LoadRunner;
+import org.example.load.PageObjectScenarios;
+import org.example.utils.FixtureServer;
+import org.example.utils.WebDriverProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс LoadTests запускает нагрузочный прогон на page-объектах.
+ * <p>
+ * Тест включается только свойством {@code load.enabled=true}, обычно через профиль Maven:
+ * {@code mvn test -Pload -Dload.users=8 -Dload.durationSeconds=120}.
+ * Если свойство {@code base.url} не задано, нагрузка подается на локальный {@link FixtureServer}.
+ */
+@EnabledIfSystemProperty(named = "load.enabled", matches = "true")
+public class LoadTests {
+
+    /** Локальный сервер со страницами, если base.url не задан */
+    FixtureServer fixtureServer;
+
+    /**
+     * Метод startFixtureServer запускает локальный сервер, если не задан внешний адрес приложения.
+     */
+    @BeforeEach
+    void startFixtureServer() {
+        String baseUrl = System.getProperty("base.url", "");
+        if (baseUrl.isBlank()) {
+            fixtureServer = new FixtureServer();
+            System.setProperty("base.url", fixtureServer.getBaseUrl());
+        }
+    }
+
+    /**
+     * Нагрузочный прогон всех сценариев page-объектов.
+     * <p>
+     * Гистограммы шагов и пропускная способность по секундам прикладываются к отчету Allure.
+     * Тест падает, если доля ошибочных шагов превышает {@code load.maxErrorRate} (по умолчанию 0.01).
+     */
+    @Test
+    void testPageObjectLoad() {
+        LatencyRecorder recorder = new LoadRunner(LoadProfile.fromSystemProperties()).run(PageObjectScenarios.all());
+
+        Allure.addAttachment("Step latency", "text/plain", recorder.latencyReport());
+        Allure.addAttachment("Throughput per second", "text/csv", recorder.throughputCsv(), ".csv");
+        Allure.addAttachment("Session metrics", "text/plain", WebDriverProvider.getSessionMetrics().summary());
+
+        double maxErrorRate = Double.parseDouble(System.getProperty("load.maxErrorRate", "0.01"));
+        assertThat(recorder.getTotalCount()).isPositive();
+        assertThat(recorder.getErrorRate()).isLessThanOrEqualTo(maxErrorRate);
+    }
+
+    /**
+     * Метод stopFixtureServer останавливает локальный сервер.
+     */
+    @AfterEach
+    void stopFixtureServer() {
+        if (fixtureServer != null) {
+            fixtureServer.close();
+            System.clearProperty("base.url");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.tests;
+
+import org.example.perf.NavigationMetrics;
+import org.example.perf.NavigationMetricsStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс NavigationMetricsTests проверяет хранение истории метрик загрузки страниц и сводку перцентилей без запуска браузера.
+ */
+public class NavigationMetricsTests {
+
+    /**
+     * Проверяет, что ключ страницы не зависит от порта, параметров и фрагмента.
+     */
+    @Test
+    void testPageKeyIgnoresPortAndQuery() {
+        assertThat(NavigationMetrics.pageKey("http://127.0.0.1:41234/buttons?x=1#top")).isEqualTo("127.0.0.1/buttons");
+        assertThat(NavigationMetrics.pageKey("https://demoqa.com/droppable")).isEqualTo("demoqa.com/droppable");
+    }
+
+    /**
+     * Проверяет, что история переживает перезагрузку из файла, ограничена окном и дает перцентили по каждой метрике.
+     */
+    @Test
+    void testHistoryIsPersistedAndSummarized(@TempDir Path directory) {
+        Path file = directory.resolve("navigation-metrics.csv");
+        NavigationMetricsStore store = new NavigationMetricsStore(file, 10);
+        for (int i = 1; i <= 12; i++) {
+            store.add(new NavigationMetrics("demoqa.com/buttons", i, Map.of("ttfb", (double) i * 10, "cls", 0.01)));
+        }
+        store.add(new NavigationMetrics("demoqa.com/droppable", 13, Map.of("lcp", 800.0)));
+
+        NavigationMetricsStore reloaded = new NavigationMetricsStore(file, 10);
+        assertThat(reloaded.history("demoqa.com/buttons")).hasSize(10);
+        assertThat(reloaded.percentile("demoqa.com/buttons", "ttfb", 50)).isEqualTo(70);
+        assertThat(reloaded.percentile("demoqa.com/buttons", "ttfb", 95)).isEqualTo(120);
+        assertThat(reloaded.percentile("demoqa.com/buttons", "lcp", 75)).isNaN();
+        assertThat(reloaded.percentile("demoqa.com/droppable", "lcp", 75)).isEqualTo(800);
+        assertThat(reloaded.summary("demoqa.com/buttons")).contains("10 runs", "ttfb", "cls");
+    }
+}
@@ -0,0 +1,188 @@
+package org.example.tests;
+
+import org.example.pages.elements.LazyElement;
+import org.example.processor.PageElementsProcessor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс PageElementsProcessorTests компилирует страницы-образцы с процессором PageElementsProcessor
+ * и проверяет сгенерированную инициализацию элементов без браузера.
+ */
+public class PageElementsProcessorTests {
+
+    /** Страница-образец со всеми поддерживаемыми видами полей */
+    private static final String SAMPLE_PAGE = String.join("\n",
+            "package sample;",
+            "import java.util.List;",
+            "import org.openqa.selenium.WebElement;",
+            "import org.openqa.selenium.support.CacheLookup;",
+            "import org.openqa.selenium.support.FindBy;",
+            "import org.openqa.selenium.support.How;",
+            "public class SamplePage {",
+            "    @FindBy(id = \"title\") WebElement title;",
+            "    @FindBy(how = How.CSS, using = \"li.item\") List<WebElement> items;",
+            "    @CacheLookup @FindBy(name = \"q\") WebElement search;",
+            "}");
+
+    /**
+     * Проверяет, что сгенерированный код не ищет элементы при инициализации, ищет их при каждом обращении
+     * и один раз для полей с {@code @CacheLookup}.
+     */
+    @Test
+    void testGeneratedElementsAreLookedUpOnAccess(@TempDir Path output) throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(output, "sample.SamplePage", SAMPLE_PAGE);
+        assertThat(diagnostics.getDiagnostics()).noneMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR);
+        assertThat(Files.readString(output.resolve("sample/SamplePageElements.java")))
+                .contains("static final By TITLE = By.id(\"title\");")
+                .contains("static final By ITEMS = By.cssSelector(\"li.item\");");
+
+        AtomicInteger lookups = new AtomicInteger();
+        SearchContext context = new CountingContext(lookups);
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            Object page = loader.loadClass("sample.SamplePage").getConstructor().newInstance();
+            Method initElements = loader.loadClass("sample.SamplePageElements")
+                    .getDeclaredMethod("initElements", page.getClass(), SearchContext.class);
+            initElements.setAccessible(true);
+            initElements.invoke(null, page, context);
+            assertThat(lookups).hasValue(0);
+
+            WebElement title = (WebElement) field(page, "title");
+            assertThat(title).isInstanceOf(LazyElement.class);
+            assertThat(title.getText()).isEqualTo("By.id: title");
+            assertThat(title.getText()).isEqualTo("By.id: title");
+            assertThat(lookups).hasValue(2);
+
+            WebElement search = (WebElement) field(page, "search");
+            search.getText();
+            search.getText();
+            assertThat(lookups).hasValue(3);
+
+            List<?> items = (List<?>) field(page, "items");
+            assertThat(items).hasSize(1);
+            assertThat(lookups).hasValue(4);
+        }
+    }
+
+    /**
+     * Проверяет, что private-поле с {@code @FindBy} приводит к ошибке компиляции с подсказкой сделать его package-private.
+     */
+    @Test
+    void testPrivateFieldIsReported(@TempDir Path output) {
+        String page = String.join("\n",
+                "package sample;",
+                "import org.openqa.selenium.WebElement;",
+                "import org.openqa.selenium.support.FindBy;",
+                "public class PrivatePage {",
+                "    @FindBy(css = \"#hidden\") private WebElement hidden;",
+                "    @FindBy(css = \"#shown\") WebElement shown;",
+                "}");
+        DiagnosticCollector<JavaFileObject> diagnostics = compile(output, "sample.PrivatePage", page);
+        assertThat(diagnostics.getDiagnostics())
+                .anyMatch(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR
+                        && diagnostic.getMessage(null).contains("must not be private, make it package-private"));
+    }
+
+    /**
+     * Проверяет, что LazyElement равен найденному элементу и другому LazyElement того же элемента.
+     */
+    @Test
+    void testLazyElementEqualsFoundElement() {
+        RemoteWebElement found = new RemoteWebElement();
+        found.setId("element-1");
+        SearchContext context = new SearchContext() {
+            @Override
+            public List<WebElement> findElements(By by) {
+                return List.of(found);
+            }
+
+            @Override
+            public WebElement findElement(By by) {
+                return found;
+            }
+        };
+        LazyElement element = new LazyElement(context, By.id("element"), "element", false);
+
+        assertThat(element).isEqualTo(found);
+        assertThat(found).isEqualTo(element);
+        assertThat(element).isEqualTo(new LazyElement(context, By.cssSelector("#element"), "sameElement", true));
+        assertThat(element).hasSameHashCodeAs(found);
+        assertThat(element).isNotEqualTo("element-1");
+    }
+
+    private static DiagnosticCollector<JavaFileObject> compile(Path output, String className, String source) {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaFileObject file = new SimpleJavaFileObject(URI.create("string:///" + className.replace('.', '/') + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return source;
+            }
+        };
+        List<String> options = List.of("-classpath", System.getProperty("java.class.path"),
+                "-d", output.toString(), "-s", output.toString());
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, diagnostics, options, null, List.of(file));
+        task.setProcessors(List.of(new PageElementsProcessor()));
+        task.call();
+        return diagnostics;
+    }
+
+    private static Object field(Object page, String name) throws ReflectiveOperationException {
+        Field field = page.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(page);
+    }
+
+    /**
+     * Контекст поиска, который считает поиски и возвращает элементы с текстом локатора.
+     */
+    private static final class CountingContext implements SearchContext {
+
+        private final AtomicInteger lookups;
+
+        private CountingContext(AtomicInteger lookups) {
+            this.lookups = lookups;
+        }
+
+        @Override
+        public List<WebElement> findElements(By by) {
+            lookups.incrementAndGet();
+            return List.of(element(by));
+        }
+
+        @Override
+        public WebElement findElement(By by) {
+            lookups.incrementAndGet();
+            return element(by);
+        }
+
+        private static WebElement element(By by) {
+            return (WebElement) Proxy.newProxyInstance(WebElement.class.getClassLoader(), new Class<?>[]{WebElement.class},
+                    (proxy, method, args) -> "getText".equals(method.getName()) ? by.toString() : null);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.tests;
+
+import org.example.perf.BudgetMeasurements;
+import org.example.perf.PerformanceBaseline;
+import org.example.perf.PerformanceBudget;
+import org.example.perf.StepMeasurement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс PerformanceBudgetTests проверяет замер шагов с бюджетом и определение регрессий без запуска браузера.
+ */
+public class PerformanceBudgetTests {
+
+    /**
+     * Проверяет, что аспект, вплетенный агентом aspectjweaver, замеряет вызовы методов с {@link PerformanceBudget}.
+     */
+    @Test
+    void testAnnotatedCallsAreMeasured() {
+        BudgetMeasurements.start();
+        try {
+            budgetedStep();
+            budgetedStep();
+            StepMeasurement measurement = BudgetMeasurements.current("PerformanceBudgetTests.budgetedStep");
+            assertThat(measurement).isNotNull();
+            assertThat(measurement.getCalls()).isEqualTo(2);
+            assertThat(measurement.getBudgetMillis()).isEqualTo(1_000);
+            assertThat(measurement.medianMillis()).isGreaterThanOrEqualTo(10);
+        } finally {
+            BudgetMeasurements.finish();
+        }
+    }
+
+    /**
+     * Проверяет, что базовая линия сохраняется между экземплярами и отличает шум от регрессии.
+     */
+    @Test
+    void testBaselineDetectsRegression(@TempDir Path directory) {
+        Path file = directory.resolve("baseline.properties");
+        PerformanceBaseline baseline = new PerformanceBaseline(file, 20, 3, 0.2);
+        for (double median : new double[]{1000, 1040, 980, 1010, 1020, 990}) {
+            baseline.add("DroppablePage.dragAndDrop", median);
+        }
+
+        PerformanceBaseline reloaded = new PerformanceBaseline(file, 20, 3, 0.2);
+        assertThat(reloaded.compare("DroppablePage.dragAndDrop", 1050).isRegression()).isFalse();
+        assertThat(reloaded.compare("DroppablePage.dragAndDrop", 3000).isRegression()).isTrue();
+        assertThat(reloaded.compare("ProgressBarPage.open", 3000).getSamples()).isZero();
+    }
+
+    /**
+     * Проверяет, что устойчивое замедление в 3 раза остается регрессией и не попадает в базовую линию,
+     * пока его явно не примут, а медиана сверх бюджета не попадает в базовую линию совсем.
+     */
+    @Test
+    void testSustainedRegressionStaysFlagged(@TempDir Path directory) {
+        PerformanceBaseline baseline = new PerformanceBaseline(directory.resolve("baseline.properties"), 20, 3, 0.2);
+        for (double median : new double[]{1000, 1040, 980, 1010, 1020, 990}) {
+            baseline.compareAndAdd("DroppablePage.dragAndDrop", median, true, false);
+        }
+
+        for (int run = 0; run < 30; run++) {
+            assertThat(baseline.compareAndAdd("DroppablePage.dragAndDrop", 3000, true, false).isRegression()).isTrue();
+        }
+        baseline.compareAndAdd("DroppablePage.dragAndDrop", 1000, false, false);
+        assertThat(baseline.compare("DroppablePage.dragAndDrop", 3000).getSamples()).isEqualTo(6);
+
+        baseline.compareAndAdd("DroppablePage.dragAndDrop", 3000, true, true);
+        assertThat(baseline.compare("DroppablePage.dragAndDrop", 3000).getSamples()).isEqualTo(7);
+    }
+
+    @PerformanceBudget(1_000)
+    void budgetedStep() {
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
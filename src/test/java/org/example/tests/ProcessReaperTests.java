@@ -0,0 +1,148 @@
+package org.example.tests;
+
+import org.example.soak.ProcessReaper;
+import org.example.soak.SoakRunner;
+import org.example.utils.WebDriverProvider;
+import org.example.utils.backend.DriverBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс ProcessReaperTests проверяет, что ProcessReaper завершает только процессы из снимка текущего запуска.
+ * <p>
+ * Вместо chromedriver запускается копия {@code sleep} с именем {@code chromedriver}.
+ */
+@EnabledOnOs(OS.LINUX)
+public class ProcessReaperTests {
+
+    /** Запущенные тестом процессы */
+    private final List<Process> started = new ArrayList<>();
+
+    /**
+     * Проверяет, что процесс из снимка, оставшийся после закрытия, завершается, а запущенный после снимка - нет.
+     */
+    @Test
+    void testReapsOnlySnapshottedProcesses(@TempDir Path dir) throws IOException {
+        Path fakeDriver = fakeDriver(dir);
+        ProcessHandle leftover = start(fakeDriver);
+        ProcessReaper reaper = new ProcessReaper();
+        Set<ProcessHandle> before = reaper.snapshot(Set.of());
+        assertThat(before).contains(leftover);
+
+        ProcessHandle foreign = start(fakeDriver);
+        assertThat(reaper.reap(before)).isEqualTo(1);
+        assertThat(leftover.isAlive()).isFalse();
+        assertThat(foreign.isAlive()).isTrue();
+    }
+
+    /**
+     * Проверяет, что защищенный процесс из снимка не завершается.
+     */
+    @Test
+    void testProtectedProcessIsKept(@TempDir Path dir) throws IOException {
+        ProcessHandle service = start(fakeDriver(dir));
+        ProcessReaper reaper = new ProcessReaper();
+        reaper.protect(service.pid());
+
+        assertThat(reaper.reap(reaper.snapshot(Set.of(service.pid())))).isZero();
+        assertThat(service.isAlive()).isTrue();
+    }
+
+    /**
+     * Проверяет, что пересоздание сессии в длительном прогоне завершает процессы прежней сессии
+     * через WebDriverProvider, и завершать их принудительно не приходится.
+     */
+    @Test
+    void testRecycleEndsPreviousSessionProcesses(@TempDir Path dir) throws IOException {
+        ProcessBackend.fakeDriver = fakeDriver(dir);
+        System.setProperty("webdriver.backend", ProcessBackend.class.getName());
+        WebDriverProvider.shutdownBackend();
+        try {
+            WebDriverProvider.getDriver();
+            ProcessHandle session = ProcessBackend.last.toHandle();
+            assertThat(session.isAlive()).isTrue();
+
+            assertThat(SoakRunner.closeAndReap(new ProcessReaper())).isZero();
+            assertThat(session.isAlive()).isFalse();
+        } finally {
+            WebDriverProvider.shutdownBackend();
+            System.clearProperty("webdriver.backend");
+        }
+    }
+
+    /**
+     * Завершает процессы, запущенные тестом.
+     */
+    @AfterEach
+    void destroyStarted() {
+        started.forEach(Process::destroyForcibly);
+        if (ProcessBackend.last != null) {
+            ProcessBackend.last.destroyForcibly();
+        }
+    }
+
+    private static Path fakeDriver(Path dir) throws IOException {
+        Path fakeDriver = Files.copy(Path.of("/bin/sleep"), dir.resolve("chromedriver"));
+        assertThat(fakeDriver.toFile().setExecutable(true)).isTrue();
+        return fakeDriver;
+    }
+
+    private ProcessHandle start(Path command) throws IOException {
+        Process process = new ProcessBuilder(command.toString(), "60").start();
+        started.add(process);
+        return process.toHandle();
+    }
+
+    /**
+     * Бэкенд, сессия которого - процесс поддельного chromedriver, а {@code quit()} завершает этот процесс.
+     */
+    public static class ProcessBackend implements DriverBackend {
+
+        /** Поддельный chromedriver */
+        static Path fakeDriver;
+
+        /** Процесс последней созданной сессии */
+        static Process last;
+
+        @Override
+        public WebDriver startSession(ChromeOptions options) {
+            try {
+                Process process = new ProcessBuilder(fakeDriver.toString(), "60").start();
+                last = process;
+                return (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(), new Class<?>[]{WebDriver.class},
+                        (proxy, method, args) -> switch (method.getName()) {
+                            case "quit" -> {
+                                process.destroy();
+                                yield null;
+                            }
+                            case "equals" -> proxy == args[0];
+                            case "hashCode" -> System.identityHashCode(proxy);
+                            default -> null;
+                        });
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public String name() {
+            return "process";
+        }
+    }
+}
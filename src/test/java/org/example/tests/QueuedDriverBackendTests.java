@@ -0,0 +1,133 @@
+package org.example.tests;
+
+import org.example.utils.WebDriverProvider;
+import org.example.utils.backend.DriverBackend;
+import org.example.utils.backend.QueuedDriverBackend;
+import org.example.utils.backend.SessionMetrics;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Класс QueuedDriverBackendTests проверяет клиентскую очередь сессий без запуска браузера.
+ * <p>
+ * Вместо настоящего бэкенда используется заглушка, которая не создает сессий.
+ */
+public class QueuedDriverBackendTests {
+
+    /** Бэкенд-заглушка, который не создает настоящих сессий */
+    private final DriverBackend stubBackend = new StubBackend();
+
+    /**
+     * Проверяет, что запрос сессии ждет в очереди, пока не освободится слот.
+     */
+    @Test
+    void testSessionWaitsForFreeSlot() throws Exception {
+        SessionMetrics metrics = new SessionMetrics();
+        QueuedDriverBackend backend = new QueuedDriverBackend(stubBackend, 1, Duration.ofSeconds(10), metrics);
+        WebDriver first = backend.startSession(new ChromeOptions());
+
+        CompletableFuture<WebDriver> second = CompletableFuture.supplyAsync(() -> backend.startSession(new ChromeOptions()));
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(second).isNotDone();
+        assertThat(backend.getQueueLength()).isEqualTo(1);
+
+        backend.stopSession(first);
+        backend.stopSession(second.get(5, TimeUnit.SECONDS));
+        assertThat(metrics.queueWaitMillis(100)).isGreaterThanOrEqualTo(200);
+        assertThat(metrics.summary()).contains("sessions=2");
+    }
+
+    /**
+     * Проверяет, что запрос сессии завершается ошибкой, если слот не освободился за отведенное время.
+     */
+    @Test
+    void testQueueTimeout() {
+        QueuedDriverBackend backend = new QueuedDriverBackend(stubBackend, 1, Duration.ofMillis(100), new SessionMetrics());
+        backend.startSession(new ChromeOptions());
+        assertThatThrownBy(() -> backend.startSession(new ChromeOptions()))
+                .isInstanceOf(WebDriverException.class)
+                .hasMessageContaining("No free session slot");
+    }
+
+    /**
+     * Проверяет, что повторное завершение сессии и завершение чужой сессии не добавляют слотов.
+     */
+    @Test
+    void testStoppingUnknownSessionDoesNotAddSlot() {
+        QueuedDriverBackend backend = new QueuedDriverBackend(stubBackend, 1, Duration.ofMillis(100), new SessionMetrics());
+        WebDriver first = backend.startSession(new ChromeOptions());
+        backend.stopSession(first);
+        backend.stopSession(first);
+        backend.stopSession(stubBackend.startSession(new ChromeOptions()));
+
+        backend.startSession(new ChromeOptions());
+        assertThatThrownBy(() -> backend.startSession(new ChromeOptions()))
+                .isInstanceOf(WebDriverException.class)
+                .hasMessageContaining("No free session slot");
+    }
+
+    /**
+     * Проверяет, что сессии WebDriverProvider, обернутые декоратором событий, завершаются и освобождают слот.
+     */
+    @Test
+    void testProviderReleasesDecoratedSession() {
+        System.setProperty("webdriver.backend", StubBackend.class.getName());
+        System.setProperty("webdriver.maxSessions", "1");
+        System.setProperty("webdriver.queueTimeoutSeconds", "1");
+        WebDriverProvider.shutdownBackend();
+        int stoppedBefore = StubBackend.STOPPED.get();
+        try {
+            for (int i = 0; i < 3; i++) {
+                WebDriver driver = WebDriverProvider.createDriver();
+                assertThat(driver).isInstanceOf(WrapsDriver.class);
+                WebDriverProvider.releaseDriver(driver);
+            }
+            WebDriverProvider.getDriver();
+            WebDriverProvider.closeDriver();
+            assertThat(StubBackend.STOPPED.get() - stoppedBefore).isEqualTo(4);
+        } finally {
+            WebDriverProvider.shutdownBackend();
+            System.clearProperty("webdriver.backend");
+            System.clearProperty("webdriver.maxSessions");
+            System.clearProperty("webdriver.queueTimeoutSeconds");
+        }
+    }
+
+    /**
+     * Бэкенд-заглушка, который считает завершенные сессии; создается и по имени класса в {@code webdriver.backend}.
+     */
+    public static class StubBackend implements DriverBackend {
+
+        /** Количество завершенных сессий */
+        static final AtomicInteger STOPPED = new AtomicInteger();
+
+        @Override
+        public WebDriver startSession(ChromeOptions options) {
+            return (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(), new Class<?>[]{WebDriver.class},
+                    (proxy, method, args) -> "equals".equals(method.getName()) ? proxy == args[0]
+                            : "hashCode".equals(method.getName()) ? System.identityHashCode(proxy) : null);
+        }
+
+        @Override
+        public void stopSession(WebDriver driver) {
+            STOPPED.incrementAndGet();
+        }
+
+        @Override
+        public String name() {
+            return "stub";
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.example.tests;
+
+import io.qameta.allure.Allure;
+import org.example.load.PageObjectScenarios;
+import org.example.soak.SoakResult;
+import org.example.soak.SoakRunner;
+import org.example.utils.FixtureServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс SoakTests запускает длительный прогон с контролем утечек ресурсов.
+ * <p>
+ * Тест включается только свойством {@code soak.enabled=true}, обычно через профиль Maven:
+ * {@code mvn test -Psoak -Dsoak.durationMinutes=240}. Прогон идет полностью локально,
+ * против {@link FixtureServer}.
+ */
+@EnabledIfSystemProperty(named = "soak.enabled", matches = "true")
+public class SoakTests {
+
+    /** Локальный сервер со страницами */
+    FixtureServer fixtureServer;
+
+    /**
+     * Метод startFixtureServer запускает локальный сервер и направляет на него page-объекты.
+     */
+    @BeforeEach
+    void startFixtureServer() {
+        fixtureServer = new FixtureServer();
+        System.setProperty("base.url", fixtureServer.getBaseUrl());
+    }
+
+    /**
+     * Длительный прогон всех сценариев page-объектов на переиспользуемых сессиях.
+     * <p>
+     * Тренд ресурсов по итерациям прикладывается к отчету Allure. Тест падает, если наклон
+     * тренда какой-либо метрики превышает порог или были найдены осиротевшие процессы.
+     */
+    @Test
+    void testSoak() {
+        SoakResult result = SoakRunner.fromSystemProperties().run(PageObjectScenarios.all());
+
+        Allure.addAttachment("Resource trend", "text/csv", result.trendCsv(), ".csv");
+        Allure.addAttachment("Step latency", "text/plain", result.getRecorder().latencyReport());
+
+        assertThat(result.getSamples()).isNotEmpty();
+        assertThat(result.getViolations()).isEmpty();
+    }
+
+    /**
+     * Метод stopFixtureServer останавливает локальный сервер.
+     */
+    @AfterEach
+    void stopFixtureServer() {
+        fixtureServer.close();
+        System.clearProperty("base.url");
+    }
+}
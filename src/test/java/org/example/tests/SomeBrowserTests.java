@@ -1,8 +1,10 @@
 package org.example.tests;
 
 import org.example.pages.*;
+import org.example.perf.PerformanceBudgetExtension;
 import org.example.utils.WebDriverProvider;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.WebDriver;
 
 import java.util.List;
@@ -13,7 +15,9 @@ import static org.assertj.core.api.Assertions.assertThat;
  * Класс SomeBrowserTests содержит тесты для страниц DroppablePage, ProgressBarPage и ButtonsPage.
  * <p>
  * Каждый тест открывает соответствующую страницу, выполняет действия на странице и проверяет результаты.
+ * Время шагов с {@link org.example.perf.PerformanceBudget} проверяется расширением {@link PerformanceBudgetExtension}.
  */
+@ExtendWith(PerformanceBudgetExtension.class)
 public class SomeBrowserTests {
 
     /** Экземпляр WebDriver для управления браузером */
@@ -34,6 +38,7 @@ public class SomeBrowserTests {
      * Тест для страницы DroppablePage.
      * <p>
      * Открывает страницу, выполняет действие перетаскивания элемента и проверяет текст элемента после перетаскивания.
+     * При {@code visual.enabled=true} состояние страницы после перетаскивания сравнивается с визуальным эталоном.
      */
     @Test
     void testDroppablePage() {
@@ -41,6 +46,7 @@ public class SomeBrowserTests {
         droppablePage.open();
         droppablePage.dragAndDrop();
         assertThat(droppablePage.getDroppableElementText()).isEqualTo("Dropped!");
+        droppablePage.verifyVisualState("droppable-dropped", "#fixedban", "footer");
     }
 
     /**
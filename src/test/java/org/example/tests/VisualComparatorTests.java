@@ -0,0 +1,154 @@
+package org.example.tests;
+
+import org.example.visual.ImageData;
+import org.example.visual.VisualBaseline;
+import org.example.visual.VisualComparator;
+import org.example.visual.VisualComparison;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.Rectangle;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс VisualComparatorTests проверяет визуальное сравнение на синтетических снимках без запуска браузера.
+ */
+public class VisualComparatorTests {
+
+    private static final int WIDTH = 640;
+    private static final int HEIGHT = 360;
+
+    private final VisualComparator comparator = new VisualComparator(32, 16, 0.0001, 16);
+
+    /**
+     * Проверяет, что совпавший снимок сравнивается по хэшам плиток без декодирования PNG эталона,
+     * а эталон переживает сохранение в PNG без потерь.
+     */
+    @Test
+    void testIdenticalScreenshotSkipsBaselineDecoding(@TempDir Path directory) {
+        VisualBaseline.save(directory, "page", page(), comparator.grid(page(), List.of()));
+
+        VisualBaseline baseline = VisualBaseline.at(directory, "page");
+        VisualComparison comparison = comparator.compare(page(), baseline, List.of());
+
+        assertThat(comparison.isPassed()).isTrue();
+        assertThat(comparison.getMismatchedTiles()).isZero();
+        assertThat(baseline.isImageLoaded()).isFalse();
+        assertThat(baseline.image().getPixels()).isEqualTo(page().getPixels());
+    }
+
+    /**
+     * Проверяет, что попиксельно сравниваются только измененные плитки, а шум в пределах допуска не считается различием.
+     */
+    @Test
+    void testOnlyChangedTilesAreDiffed(@TempDir Path directory) {
+        VisualBaseline baseline = VisualBaseline.save(directory, "page", page(), comparator.grid(page(), List.of()));
+
+        ImageData changed = page();
+        fill(changed, new Rectangle(100, 70, 40, 10), 0x00AA00);
+        VisualComparison comparison = comparator.compare(changed, baseline, List.of());
+        assertThat(comparison.isPassed()).isFalse();
+        assertThat(comparison.getDiffPixels()).isEqualTo(400);
+        assertThat(comparison.getMismatchedTiles()).isEqualTo(2);
+        assertThat(comparison.getDiffRegions()).containsExactly(new Rectangle(96, 64, 32, 32), new Rectangle(128, 64, 32, 32));
+        assertThat(comparator.renderDiff(changed, baseline.image(), List.of(), comparison).getPixel(110, 75)).isEqualTo(0xFF0000);
+
+        ImageData noisy = page();
+        noisy.getPixels()[200 * WIDTH + 300] += 0x000505;
+        VisualComparison noise = comparator.compare(noisy, baseline, List.of());
+        assertThat(noise.isPassed()).isTrue();
+        assertThat(noise.getMismatchedTiles()).isEqualTo(1);
+        assertThat(noise.getDiffPixels()).isZero();
+    }
+
+    /**
+     * Проверяет, что изменения в игнорируемой области не влияют на результат.
+     */
+    @Test
+    void testIgnoreRegionsAreExcluded(@TempDir Path directory) {
+        List<Rectangle> banner = List.of(new Rectangle(0, 300, WIDTH, 60));
+        VisualBaseline baseline = VisualBaseline.save(directory, "page", page(), comparator.grid(page(), banner));
+
+        ImageData changed = page();
+        fill(changed, new Rectangle(0, 300, WIDTH, 60), 0xFFCC00);
+        VisualComparison comparison = comparator.compare(changed, baseline, banner);
+
+        assertThat(comparison.isPassed()).isTrue();
+        assertThat(comparison.getMismatchedTiles()).isZero();
+        assertThat(comparison.getComparedPixels()).isEqualTo((long) WIDTH * 300);
+    }
+
+    /**
+     * Проверяет, что совершенно другой снимок отклоняется по перцептивному хэшу без попиксельного сравнения.
+     */
+    @Test
+    void testDifferentPageIsRejectedByPerceptualHash(@TempDir Path directory) {
+        VisualBaseline.save(directory, "page", page(), comparator.grid(page(), List.of()));
+        VisualBaseline baseline = VisualBaseline.at(directory, "page");
+
+        ImageData inverted = page();
+        int[] pixels = inverted.getPixels();
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = ~pixels[i] & 0xFFFFFF;
+        }
+        VisualComparison comparison = comparator.compare(inverted, baseline, List.of());
+
+        assertThat(comparison.isPassed()).isFalse();
+        assertThat(comparison.getReason()).contains("perceptual hash");
+        assertThat(baseline.isImageLoaded()).isFalse();
+    }
+
+    /**
+     * Проверяет, что хэши, пересчитанные для новых игнорируемых областей, пишутся в каталог кэша,
+     * а файл хэшей рядом с эталоном не меняется.
+     */
+    @Test
+    void testRecomputedHashesDoNotRewriteBaseline(@TempDir Path directory) throws IOException {
+        Path baselines = directory.resolve("baselines");
+        Path hashCache = directory.resolve("hash-cache");
+        VisualBaseline.save(baselines, "page", page(), comparator.grid(page(), List.of()), hashCache);
+        byte[] sidecar = Files.readAllBytes(baselines.resolve("page.tiles"));
+        List<Rectangle> banner = List.of(new Rectangle(0, 300, WIDTH, 60));
+
+        VisualComparison first = comparator.compare(page(), VisualBaseline.at(baselines, "page", hashCache), banner);
+        assertThat(first.isPassed()).isTrue();
+        assertThat(Files.readAllBytes(baselines.resolve("page.tiles"))).isEqualTo(sidecar);
+        assertThat(hashCache.resolve("page.tiles")).exists();
+
+        VisualBaseline cached = VisualBaseline.at(baselines, "page", hashCache);
+        assertThat(comparator.compare(page(), cached, banner).isPassed()).isTrue();
+        assertThat(cached.isImageLoaded()).isFalse();
+    }
+
+    /**
+     * Создает синтетическую страницу: горизонтальный градиент, шапка и несколько блоков.
+     */
+    private static ImageData page() {
+        int[] pixels = new int[WIDTH * HEIGHT];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                int shade = 160 + x * 80 / WIDTH;
+                pixels[y * WIDTH + x] = shade << 16 | shade << 8 | shade;
+            }
+        }
+        ImageData image = new ImageData(WIDTH, HEIGHT, pixels);
+        fill(image, new Rectangle(0, 0, WIDTH, 40), 0x343A40);
+        fill(image, new Rectangle(40, 60, 200, 120), 0x1E90FF);
+        fill(image, new Rectangle(360, 60, 220, 220), 0xFFFFFF);
+        fill(image, new Rectangle(400, 140, 120, 40), 0x4682B4);
+        return image;
+    }
+
+    private static void fill(ImageData image, Rectangle area, int color) {
+        for (int y = area.y; y < area.y + area.height; y++) {
+            for (int x = area.x; x < area.x + area.width; x++) {
+                image.getPixels()[y * image.getWidth() + x] = color;
+            }
+        }
+    }
+}
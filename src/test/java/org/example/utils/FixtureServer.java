@@ -0,0 +1,104 @@
+package org.example.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Класс FixtureServer - локальный HTTP-сервер со статическими копиями тестируемых страниц.
+ * <p>
+ * Страницы лежат в ресурсах {@code /fixtures} и воспроизводят разметку и поведение страниц
+ * demoqa.com, с которыми работают page-объекты: {@code /buttons}, {@code /droppable} и {@code /progress-bar}.
+ * Сервер позволяет запускать длительные и нагрузочные прогоны полностью локально, не завися от сети.
+ */
+@Slf4j
+public class FixtureServer implements AutoCloseable {
+
+    /** Соответствие путей страниц ресурсам с их разметкой */
+    private static final Map<String, String> PAGES = Map.of(
+            "/buttons", "/fixtures/buttons.html",
+            "/droppable", "/fixtures/droppable.html",
+            "/progress-bar", "/fixtures/progress-bar.html");
+
+    /** HTTP-сервер */
+    private final HttpServer server;
+
+    /** Пул потоков для обработки запросов */
+    private final ExecutorService executor;
+
+    /**
+     * Конструктор FixtureServer запускает сервер на указанном порту.
+     *
+     * @param port порт сервера, 0 - любой свободный порт
+     */
+    public FixtureServer(int port) {
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to start fixture server", e);
+        }
+        this.executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()));
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        log.info("Slf4j Logging: Fixture server started at {}", getBaseUrl());
+    }
+
+    /**
+     * Конструктор FixtureServer запускает сервер на любом свободном порту.
+     */
+    public FixtureServer() {
+        this(0);
+    }
+
+    /**
+     * Возвращает базовый адрес сервера, например {@code http://localhost:8123}.
+     *
+     * @return базовый адрес сервера
+     */
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Останавливает сервер.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        log.info("Slf4j Logging: Fixture server stopped");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String resource = PAGES.get(exchange.getRequestURI().getPath());
+            InputStream page = resource == null ? null : FixtureServer.class.getResourceAsStream(resource);
+            if (page == null) {
+                byte[] body = "Not Found".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(404, body.length);
+                exchange.getResponseBody().write(body);
+                return;
+            }
+            byte[] body;
+            try (page) {
+                body = page.readAllBytes();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
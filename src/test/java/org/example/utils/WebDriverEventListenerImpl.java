@@ -1,6 +1,10 @@
 package org.example.utils;
 
+import io.qameta.allure.Allure;
 import lombok.extern.slf4j.Slf4j;
+import org.example.perf.NavigationMetrics;
+import org.example.perf.NavigationMetricsStore;
+import org.example.perf.NavigationTimingCollector;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -34,6 +38,9 @@ import java.util.Collection;
 @Slf4j
 public class WebDriverEventListenerImpl implements WebDriverListener {
 
+    /** Сборщик метрик загрузки страницы после навигации */
+    private final NavigationTimingCollector navigationTimingCollector = NavigationTimingCollector.fromSystemProperties();
+
     /**
      * Логирует вызов любого метода WebDriver до его выполнения.
      *
@@ -71,7 +78,11 @@ public class WebDriverEventListenerImpl implements WebDriverListener {
     }
 
     /**
-     * Логирует после навигации по URL.
+     * Логирует после навигации по URL и снимает метрики загрузки страницы.
+     * <p>
+     * Метрики Navigation Timing, Resource Timing и Paint/LCP/CLS сохраняются в историю страницы,
+     * сводка перцентилей прикладывается к отчету Allure. Ошибка сбора метрик не прерывает тест.
+     * Сбор отключается системным свойством {@code perf.navigation.enabled=false}.
      *
      * @param driver экземпляр WebDriver
      * @param url    URL, на который была осуществлена навигация
@@ -79,6 +90,19 @@ public class WebDriverEventListenerImpl implements WebDriverListener {
     @Override
     public void afterGet(WebDriver driver, String url) {
         log.info("WebDriverListener Logging: After navigating to: {}", url);
+        if (!NavigationTimingCollector.isEnabled()) {
+            return;
+        }
+        try {
+            NavigationMetrics metrics = navigationTimingCollector.collect(driver, url);
+            NavigationMetricsStore store = NavigationMetricsStore.getDefault();
+            store.add(metrics);
+            String summary = store.summary(metrics.getPage());
+            log.info("WebDriverListener Logging: Navigation metrics: {}\n{}", metrics, summary);
+            Allure.addAttachment("Navigation metrics " + metrics.getPage(), "text/plain", metrics + System.lineSeparator() + summary);
+        } catch (RuntimeException e) {
+            log.warn("WebDriverListener Logging: Unable to collect navigation metrics for {}: {}", url, e.getMessage());
+        }
     }
 
     /**
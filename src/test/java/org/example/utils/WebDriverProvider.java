@@ -1,17 +1,26 @@
 package org.example.utils;
 
 import lombok.extern.slf4j.Slf4j;
+import org.example.utils.backend.DriverBackend;
+import org.example.utils.backend.DriverBackends;
+import org.example.utils.backend.SessionMetrics;
+import org.example.utils.backend.SessionMetricsListener;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.events.EventFiringDecorator;
 import org.openqa.selenium.support.events.WebDriverListener;
 
+import java.util.Set;
+
 /**
  * Класс WebDriverProvider предоставляет методы для инициализации и управления экземпляром WebDriver.
  * <p>
  * Этот класс используется для создания и предоставления экземпляра WebDriver для выполнения автоматизированных тестов.
  * Он обеспечивает настройку WebDriver и регистрацию слушателя событий для логирования.
+ * <p>
+ * Сессии создаются через подключаемый {@link DriverBackend} (локальный Chrome или Selenium Grid),
+ * который выбирается системным свойством {@code webdriver.backend}, см. {@link DriverBackends}.
  */
 @Slf4j
 public class WebDriverProvider {
@@ -22,6 +31,12 @@ public class WebDriverProvider {
      */
     private static WebDriver driver;
 
+    /** Метрики очереди, создания сессий и команд WebDriver */
+    private static final SessionMetrics metrics = new SessionMetrics();
+
+    /** Бэкенд браузерных сессий, инициализируется при создании первой сессии */
+    private static DriverBackend backend;
+
     /**
      * Приватный конструктор для предотвращения создания экземпляров этого класса.
      */
@@ -39,26 +54,116 @@ public class WebDriverProvider {
     public static WebDriver getDriver() {
         if (driver == null) {
             log.info("Slf4j Logging: WebDriver initialization");
-            // Создаем объект ChromeOptions для настройки ChromeDriver
-            ChromeOptions options = new ChromeOptions();
-            options.addArguments("--window-size=1920,1080");
-            options.addArguments("--disable-infobars");
-            options.addArguments("--disable-extensions");
-            options.addArguments("--disable-gpu");
-            options.addArguments("--no-sandbox");
-            options.addArguments("--disable-dev-shm-usage");
-
-            // Создаем экземпляр ChromeDriver с заданными параметрами
-            WebDriver originalDriver = new ChromeDriver(options);
-
-            // Создаем и регистрируем слушателя событий WebDriver
-            WebDriverListener listener = new WebDriverEventListenerImpl();
-            driver = new EventFiringDecorator<>(listener).decorate(originalDriver);
+            driver = createDriver();
         }
         log.info("Slf4j Logging: Returning WebDriver instance");
         return driver;
     }
 
+    /**
+     * Метод для создания новой независимой сессии WebDriver.
+     * <p>
+     * В отличие от {@link #getDriver()}, сессия не сохраняется в провайдере: вызывающий код
+     * сам отвечает за ее завершение через {@link #releaseDriver(WebDriver)}.
+     * Используется, когда нужно несколько одновременных сессий.
+     *
+     * @return экземпляр WebDriver новой сессии
+     */
+    public static WebDriver createDriver() {
+        // Создаем объект ChromeOptions для настройки ChromeDriver
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--window-size=1920,1080");
+        options.addArguments("--disable-infobars");
+        options.addArguments("--disable-extensions");
+        options.addArguments("--disable-gpu");
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        if (Boolean.getBoolean("webdriver.headless")) {
+            // Безголовый режим для нагрузочных и длительных прогонов
+            options.addArguments("--headless=new");
+        }
+        // Дополнительные аргументы Chrome через запятую, например --enable-precise-memory-info
+        for (String argument : System.getProperty("webdriver.extraArgs", "").split(",")) {
+            if (!argument.isBlank()) {
+                options.addArguments(argument.trim());
+            }
+        }
+
+        // Создаем сессию через выбранный бэкенд (локальный ChromeDriver или Selenium Grid)
+        WebDriver originalDriver = getBackend().startSession(options);
+
+        // Создаем и регистрируем слушателей событий WebDriver
+        WebDriverListener listener = new WebDriverEventListenerImpl();
+        WebDriverListener metricsListener = new SessionMetricsListener(metrics);
+        return new EventFiringDecorator<>(listener, metricsListener).decorate(originalDriver);
+    }
+
+    /**
+     * Метод для завершения сессии, созданной через {@link #createDriver()}.
+     * <p>
+     * Бэкенд выдавал исходную сессию, а не обертку {@link EventFiringDecorator}, поэтому перед завершением
+     * обертка снимается.
+     *
+     * @param sessionDriver экземпляр WebDriver, который нужно завершить
+     */
+    public static void releaseDriver(WebDriver sessionDriver) {
+        WebDriver originalDriver = sessionDriver;
+        while (originalDriver instanceof WrapsDriver) {
+            originalDriver = ((WrapsDriver) originalDriver).getWrappedDriver();
+        }
+        getBackend().stopSession(originalDriver);
+    }
+
+    /**
+     * Метод для получения метрик браузерных сессий.
+     *
+     * @return метрики очереди, создания сессий и команд WebDriver
+     */
+    public static SessionMetrics getSessionMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Метод для получения PID долгоживущих процессов бэкенда, например общего сервиса chromedriver.
+     *
+     * @return PID процессов бэкенда или пустое множество, если бэкенд еще не создан
+     */
+    public static synchronized Set<Long> getBackendProcesses() {
+        return backend == null ? Set.of() : backend.ownedProcesses();
+    }
+
+    /**
+     * Возвращает бэкенд браузерных сессий, создавая его при первом обращении.
+     * <p>
+     * При завершении JVM в лог выводится сводка метрик сессий, а бэкенд освобождает свои ресурсы.
+     *
+     * @return бэкенд браузерных сессий
+     */
+    private static synchronized DriverBackend getBackend() {
+        if (backend == null) {
+            backend = DriverBackends.fromSystemProperties(metrics);
+            DriverBackend created = backend;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                log.info("Slf4j Logging: WebDriver session metrics ({}): {}", created.name(), metrics.summary());
+                created.shutdown();
+            }));
+        }
+        return backend;
+    }
+
+    /**
+     * Метод для завершения текущей сессии и остановки бэкенда.
+     * <p>
+     * Следующая сессия создаст бэкенд заново по текущим системным свойствам.
+     */
+    public static synchronized void shutdownBackend() {
+        closeDriver();
+        if (backend != null) {
+            backend.shutdown();
+            backend = null;
+        }
+    }
+
     /**
      * Метод для закрытия экземпляра WebDriver и освобождения ресурсов.
      * <p>
@@ -66,7 +171,7 @@ public class WebDriverProvider {
      */
     public static void closeDriver() {
         if (driver != null) {
-            driver.quit();
+            releaseDriver(driver);
             driver = null;
         }
     }
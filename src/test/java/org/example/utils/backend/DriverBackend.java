@@ -0,0 +1,55 @@
+package org.example.utils.backend;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.Set;
+
+/**
+ * Интерфейс DriverBackend описывает источник браузерных сессий для {@link org.example.utils.WebDriverProvider}.
+ * <p>
+ * Реализации создают сессии локально (ChromeDriver) или на удаленном Selenium Grid,
+ * а также отвечают за их корректное завершение и освобождение ресурсов.
+ */
+public interface DriverBackend {
+
+    /**
+     * Создает новую браузерную сессию.
+     *
+     * @param options настройки Chrome, с которыми должна быть создана сессия
+     * @return экземпляр WebDriver новой сессии
+     */
+    WebDriver startSession(ChromeOptions options);
+
+    /**
+     * Завершает браузерную сессию, созданную этим бэкендом.
+     *
+     * @param driver экземпляр WebDriver, который нужно завершить
+     */
+    default void stopSession(WebDriver driver) {
+        driver.quit();
+    }
+
+    /**
+     * Возвращает PID долгоживущих процессов бэкенда (например, общего сервиса chromedriver),
+     * которые не относятся к отдельным сессиям и не должны завершаться как осиротевшие.
+     *
+     * @return PID процессов бэкенда
+     */
+    default Set<Long> ownedProcesses() {
+        return Set.of();
+    }
+
+    /**
+     * Освобождает ресурсы самого бэкенда (например, останавливает локально запущенный Grid).
+     */
+    default void shutdown() {
+    }
+
+    /**
+     * Возвращает короткое имя бэкенда для логов и отчетов.
+     *
+     * @return имя бэкенда
+     */
+    String name();
+}
@@ -0,0 +1,62 @@
+package org.example.utils.backend;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Класс DriverBackends создает бэкенд браузерных сессий по системным свойствам.
+ * <p>
+ * Поддерживаемые свойства:
+ * <ul>
+ *     <li>{@code webdriver.backend} - {@code local} (по умолчанию), {@code grid}, {@code grid-standalone}
+ *     или полное имя класса реализации {@link DriverBackend} с конструктором без параметров;</li>
+ *     <li>{@code webdriver.grid.url} - адрес Grid для бэкенда {@code grid};</li>
+ *     <li>{@code webdriver.maxSessions} - максимальное количество одновременных сессий;</li>
+ *     <li>{@code webdriver.queueTimeoutSeconds} - максимальное время ожидания свободного слота.</li>
+ * </ul>
+ * Пример: {@code mvn test -Dwebdriver.backend=grid-standalone -Dwebdriver.maxSessions=2}
+ */
+@Slf4j
+public class DriverBackends {
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров этого класса.
+     */
+    private DriverBackends() {
+    }
+
+    /**
+     * Создает бэкенд по системным свойствам и оборачивает его клиентской очередью сессий.
+     *
+     * @param metrics метрики сессий
+     * @return бэкенд браузерных сессий
+     */
+    public static DriverBackend fromSystemProperties(SessionMetrics metrics) {
+        String type = System.getProperty("webdriver.backend", "local");
+        int maxSessions = Integer.getInteger("webdriver.maxSessions", Runtime.getRuntime().availableProcessors());
+        Duration queueTimeout = Duration.ofSeconds(Long.getLong("webdriver.queueTimeoutSeconds", 300));
+        log.info("Slf4j Logging: Using '{}' WebDriver backend with up to {} concurrent sessions", type, maxSessions);
+
+        DriverBackend backend = switch (type) {
+            case "local" -> new LocalChromeBackend();
+            case "grid" -> new RemoteGridBackend(URI.create(System.getProperty("webdriver.grid.url", "http://localhost:4444")));
+            case "grid-standalone" -> new LocalGridBackend(maxSessions);
+            default -> instantiate(type);
+        };
+        return new QueuedDriverBackend(backend, maxSessions, queueTimeout, metrics);
+    }
+
+    private static DriverBackend instantiate(String className) {
+        try {
+            Class<?> type = Class.forName(className);
+            if (!DriverBackend.class.isAssignableFrom(type)) {
+                throw new IllegalArgumentException("webdriver.backend is not a DriverBackend: " + className);
+            }
+            return (DriverBackend) type.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unknown webdriver.backend: " + className, e);
+        }
+    }
+}
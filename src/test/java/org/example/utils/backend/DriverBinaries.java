@@ -0,0 +1,56 @@
+package org.example.utils.backend;
+
+/**
+ * Класс DriverBinaries содержит найденные пути и версии chromedriver и браузера Chrome.
+ */
+public final class DriverBinaries {
+
+    /** Путь к chromedriver */
+    private final String driverPath;
+
+    /** Версия chromedriver */
+    private final String driverVersion;
+
+    /** Путь к браузеру или null, если используется браузер по умолчанию */
+    private final String browserPath;
+
+    /** Версия браузера или null, если путь к браузеру не известен */
+    private final String browserVersion;
+
+    /**
+     * Конструктор DriverBinaries.
+     *
+     * @param driverPath     путь к chromedriver
+     * @param driverVersion  версия chromedriver
+     * @param browserPath    путь к браузеру или null
+     * @param browserVersion версия браузера или null
+     */
+    public DriverBinaries(String driverPath, String driverVersion, String browserPath, String browserVersion) {
+        this.driverPath = driverPath;
+        this.driverVersion = driverVersion;
+        this.browserPath = browserPath;
+        this.browserVersion = browserVersion;
+    }
+
+    public String getDriverPath() {
+        return driverPath;
+    }
+
+    public String getDriverVersion() {
+        return driverVersion;
+    }
+
+    public String getBrowserPath() {
+        return browserPath;
+    }
+
+    public String getBrowserVersion() {
+        return browserVersion;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("chromedriver %s (%s), browser %s (%s)", driverPath, driverVersion,
+                browserPath == null ? "default" : browserPath, browserVersion == null ? "unknown" : browserVersion);
+    }
+}
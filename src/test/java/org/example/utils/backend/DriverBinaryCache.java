@@ -0,0 +1,213 @@
+package org.example.utils.backend;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.service.DriverFinder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Класс DriverBinaryCache кэширует результат поиска chromedriver и Chrome между запусками.
+ * <p>
+ * Без кэша каждая новая сессия {@code ChromeDriver} запускает Selenium Manager, который ищет браузер,
+ * подбирает драйвер и при необходимости обращается в сеть. Кэш сохраняет пути и версии в файле properties
+ * и при следующих запусках проверяет их только по размеру и времени изменения файлов - это одно обращение
+ * к файловой системе вместо запуска внешнего процесса. При несовпадении поиск выполняется заново.
+ * <p>
+ * Ключ записи включает ОС, архитектуру и запрошенную версию браузера ({@code browserVersion} в опциях).
+ */
+@Slf4j
+public class DriverBinaryCache {
+
+    /** Экземпляр по умолчанию, настроенный системными свойствами */
+    private static DriverBinaryCache defaultCache;
+
+    /** Файл кэша */
+    private final Path file;
+
+    /** Поиск бинарных файлов при промахе кэша */
+    private final Function<ChromeOptions, DriverBinaries> resolver;
+
+    /** Содержимое кэша */
+    private final Properties entries = new Properties();
+
+    /**
+     * Конструктор DriverBinaryCache загружает кэш из файла, если он существует.
+     *
+     * @param file     файл кэша
+     * @param resolver поиск бинарных файлов при промахе кэша
+     */
+    public DriverBinaryCache(Path file, Function<ChromeOptions, DriverBinaries> resolver) {
+        this.file = file;
+        this.resolver = resolver;
+        load();
+    }
+
+    /**
+     * Возвращает кэш по умолчанию с поиском через Selenium Manager.
+     * <p>
+     * Файл задается системным свойством {@code webdriver.binaryCacheFile}, по умолчанию
+     * {@code ~/.cache/aqa-selenium-advanced/driver-binaries.properties}, чтобы кэш переживал {@code mvn clean}.
+     *
+     * @return кэш по умолчанию
+     */
+    public static synchronized DriverBinaryCache getDefault() {
+        if (defaultCache == null) {
+            Path defaultFile = Path.of(System.getProperty("user.home"), ".cache", "aqa-selenium-advanced", "driver-binaries.properties");
+            defaultCache = new DriverBinaryCache(
+                    Path.of(System.getProperty("webdriver.binaryCacheFile", defaultFile.toString())),
+                    DriverBinaryCache::resolveWithSeleniumManager);
+        }
+        return defaultCache;
+    }
+
+    /**
+     * Возвращает пути и версии chromedriver и Chrome для опций, используя кэш.
+     *
+     * @param options настройки Chrome
+     * @return найденные бинарные файлы
+     */
+    public synchronized DriverBinaries resolve(ChromeOptions options) {
+        long start = System.nanoTime();
+        String key = key(options);
+        DriverBinaries cached = cached(key);
+        if (cached != null) {
+            log.info("Slf4j Logging: Driver binaries cache hit in {} ms: {}", elapsedMillis(start), cached);
+            return cached;
+        }
+        DriverBinaries resolved = resolver.apply(options);
+        store(key, resolved);
+        log.info("Slf4j Logging: Driver binaries resolved in {} ms and cached in {}: {}", elapsedMillis(start), file, resolved);
+        return resolved;
+    }
+
+    /**
+     * Ищет chromedriver и Chrome через Selenium Manager и определяет их версии.
+     *
+     * @param options настройки Chrome
+     * @return найденные бинарные файлы
+     */
+    public static DriverBinaries resolveWithSeleniumManager(ChromeOptions options) {
+        DriverFinder finder = new DriverFinder(new ChromeDriverService.Builder().build(), options);
+        String driverPath = finder.getDriverPath();
+        String browserPath = finder.hasBrowserPath() ? finder.getBrowserPath() : null;
+        return new DriverBinaries(driverPath, probeVersion(driverPath),
+                browserPath, browserPath == null ? null : probeVersion(browserPath));
+    }
+
+    private DriverBinaries cached(String key) {
+        String driverPath = entries.getProperty(key + ".driver.path");
+        if (driverPath == null || !isUnchanged(key + ".driver", driverPath)) {
+            return null;
+        }
+        String browserPath = entries.getProperty(key + ".browser.path");
+        if (browserPath != null && !isUnchanged(key + ".browser", browserPath)) {
+            return null;
+        }
+        return new DriverBinaries(driverPath, entries.getProperty(key + ".driver.version"),
+                browserPath, entries.getProperty(key + ".browser.version"));
+    }
+
+    private boolean isUnchanged(String prefix, String path) {
+        Path binary = Path.of(path);
+        try {
+            return Files.isExecutable(binary)
+                    && String.valueOf(Files.size(binary)).equals(entries.getProperty(prefix + ".size"))
+                    && String.valueOf(Files.getLastModifiedTime(binary).toMillis()).equals(entries.getProperty(prefix + ".mtime"));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void store(String key, DriverBinaries binaries) {
+        put(key + ".driver", binaries.getDriverPath(), binaries.getDriverVersion());
+        if (binaries.getBrowserPath() != null) {
+            put(key + ".browser", binaries.getBrowserPath(), binaries.getBrowserVersion());
+        } else {
+            entries.stringPropertyNames().stream().filter(name -> name.startsWith(key + ".browser.")).forEach(entries::remove);
+        }
+        entries.setProperty(key + ".resolvedAt", Instant.now().toString());
+        save();
+    }
+
+    private void put(String prefix, String path, String version) {
+        Path binary = Path.of(path);
+        try {
+            entries.setProperty(prefix + ".path", path);
+            entries.setProperty(prefix + ".version", version == null ? "unknown" : version);
+            entries.setProperty(prefix + ".size", String.valueOf(Files.size(binary)));
+            entries.setProperty(prefix + ".mtime", String.valueOf(Files.getLastModifiedTime(binary).toMillis()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to stat driver binary " + path, e);
+        }
+    }
+
+    private void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(file)) {
+            entries.load(reader);
+        } catch (IOException e) {
+            log.warn("Slf4j Logging: Ignoring unreadable driver binaries cache {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void save() {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(file)) {
+                entries.store(writer, "Resolved chromedriver and Chrome binaries");
+            }
+        } catch (IOException e) {
+            log.warn("Slf4j Logging: Unable to write driver binaries cache {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static String key(ChromeOptions options) {
+        String version = options.getBrowserVersion() == null || options.getBrowserVersion().isBlank()
+                ? "default" : options.getBrowserVersion();
+        return (System.getProperty("os.name") + "-" + System.getProperty("os.arch") + "-" + version)
+                .toLowerCase().replaceAll("[^a-z0-9.]+", "-");
+    }
+
+    /**
+     * Запускает {@code <binary> --version} и возвращает первую строку вывода.
+     */
+    private static String probeVersion(String path) {
+        try {
+            Process process = new ProcessBuilder(path, "--version").redirectErrorStream(true).start();
+            try (InputStream output = process.getInputStream()) {
+                if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                    return "unknown";
+                }
+                String version = new String(output.readAllBytes(), StandardCharsets.UTF_8).trim();
+                return version.isEmpty() ? "unknown" : version.lines().findFirst().orElse("unknown");
+            }
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+
+    private static long elapsedMillis(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
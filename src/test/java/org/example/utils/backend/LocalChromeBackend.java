@@ -0,0 +1,178 @@
+package org.example.utils.backend;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Класс LocalChromeBackend создает сессии локального браузера Chrome через ChromeDriver.
+ * <p>
+ * Пути к chromedriver и Chrome берутся из {@link DriverBinaryCache}, поэтому Selenium Manager запускается
+ * только при первом запуске или после обновления браузера. По умолчанию один процесс chromedriver
+ * ({@link ChromeDriverService}) запускается при первой сессии и переиспользуется всеми следующими:
+ * сессии подключаются к нему как {@link RemoteWebDriver}, потому что {@code ChromeDriver.quit()}
+ * останавливает свой сервис. Сервис останавливается в {@link #shutdown()}.
+ * <p>
+ * Системные свойства {@code webdriver.binaryCache=false} и {@code webdriver.shareService=false} возвращают
+ * прежнее поведение - отдельный {@code new ChromeDriver(options)} с поиском через Selenium Manager на каждую
+ * сессию; так можно сравнить время создания сессий в сводке {@link SessionMetrics}.
+ */
+@Slf4j
+public class LocalChromeBackend implements DriverBackend {
+
+    /** Кэш путей к chromedriver и Chrome, null если кэш отключен */
+    private final DriverBinaryCache binaryCache;
+
+    /** Признак переиспользования одного сервиса chromedriver */
+    private final boolean shareService;
+
+    /** Общий сервис chromedriver, запускается при первой сессии */
+    private ChromeDriverService sharedService;
+
+    /** PID процесса общего сервиса */
+    private long sharedServicePid = -1;
+
+    /**
+     * Конструктор LocalChromeBackend с настройками из системных свойств
+     * {@code webdriver.binaryCache} и {@code webdriver.shareService} (по умолчанию true).
+     */
+    public LocalChromeBackend() {
+        this(Boolean.parseBoolean(System.getProperty("webdriver.binaryCache", "true")) ? DriverBinaryCache.getDefault() : null,
+                Boolean.parseBoolean(System.getProperty("webdriver.shareService", "true")));
+    }
+
+    /**
+     * Конструктор LocalChromeBackend.
+     *
+     * @param binaryCache  кэш путей к chromedriver и Chrome или null, чтобы искать их при каждой сессии
+     * @param shareService true, чтобы переиспользовать один сервис chromedriver; требует кэша
+     */
+    public LocalChromeBackend(DriverBinaryCache binaryCache, boolean shareService) {
+        this.binaryCache = binaryCache;
+        this.shareService = shareService && binaryCache != null;
+    }
+
+    /**
+     * Создает сессию Chrome с заданными параметрами.
+     *
+     * @param options настройки Chrome
+     * @return экземпляр WebDriver новой сессии
+     */
+    @Override
+    public WebDriver startSession(ChromeOptions options) {
+        if (binaryCache == null) {
+            log.info("Slf4j Logging: Starting local ChromeDriver session");
+            return new ChromeDriver(options);
+        }
+        DriverBinaries binaries = binaryCache.resolve(options);
+        if (binaries.getBrowserPath() != null) {
+            options.setBinary(binaries.getBrowserPath());
+        }
+        if (!shareService) {
+            log.info("Slf4j Logging: Starting local ChromeDriver session with cached binaries");
+            return new ChromeDriver(serviceFor(binaries), options);
+        }
+        ChromeDriverService service = sharedService(binaries);
+        log.info("Slf4j Logging: Starting local Chrome session on shared chromedriver {}", service.getUrl());
+        try {
+            return new RemoteWebDriver(service.getUrl(), options);
+        } catch (SessionNotCreatedException e) {
+            if (service.isRunning()) {
+                throw e;
+            }
+            log.warn("Slf4j Logging: Shared chromedriver is not running, restarting it");
+            return new RemoteWebDriver(sharedService(binaries).getUrl(), options);
+        }
+    }
+
+    /**
+     * Возвращает PID общего сервиса chromedriver, чтобы его не завершали как осиротевший процесс.
+     *
+     * @return PID общего сервиса или пустое множество, если сервис не запущен
+     */
+    @Override
+    public synchronized Set<Long> ownedProcesses() {
+        return sharedService != null && sharedService.isRunning() && sharedServicePid > 0 ? Set.of(sharedServicePid) : Set.of();
+    }
+
+    /**
+     * Останавливает общий сервис chromedriver.
+     */
+    @Override
+    public synchronized void shutdown() {
+        if (sharedService != null) {
+            log.info("Slf4j Logging: Stopping shared chromedriver {}", sharedService.getUrl());
+            sharedService.stop();
+            sharedService = null;
+            sharedServicePid = -1;
+        }
+    }
+
+    @Override
+    public String name() {
+        return "local";
+    }
+
+    private synchronized ChromeDriverService sharedService(DriverBinaries binaries) {
+        if (sharedService == null || !sharedService.isRunning()) {
+            long start = System.nanoTime();
+            sharedService = serviceFor(binaries);
+            try {
+                sharedService.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Unable to start chromedriver " + binaries.getDriverPath(), e);
+            }
+            sharedServicePid = findServicePid(binaries.getDriverPath(), sharedService.getUrl().getPort());
+            log.info("Slf4j Logging: Started shared chromedriver {} (pid {}) in {} ms", sharedService.getUrl(),
+                    sharedServicePid, (System.nanoTime() - start) / 1_000_000);
+        }
+        return sharedService;
+    }
+
+    private static ChromeDriverService serviceFor(DriverBinaries binaries) {
+        return new ChromeDriverService.Builder()
+                .usingDriverExecutable(new File(binaries.getDriverPath()))
+                .usingAnyFreePort()
+                .build();
+    }
+
+    /**
+     * Находит PID дочернего процесса chromedriver по пути и аргументу {@code --port}.
+     * <p>
+     * Путь сравнивается и как есть, и после разрешения символических ссылок: ОС сообщает реальный путь
+     * исполняемого файла. Процесс, аргументы которого неизвестны, не считается сервисом.
+     */
+    private static long findServicePid(String driverPath, int port) {
+        String realPath = realPath(driverPath);
+        String portArgument = "--port=" + port;
+        return ProcessHandle.current().children()
+                .filter(process -> process.info().command()
+                        .map(command -> command.equals(driverPath) || command.equals(realPath))
+                        .orElse(false))
+                .filter(process -> process.info().arguments()
+                        .map(arguments -> Arrays.asList(arguments).contains(portArgument))
+                        .orElse(false))
+                .mapToLong(ProcessHandle::pid)
+                .findFirst()
+                .orElse(-1);
+    }
+
+    private static String realPath(String path) {
+        try {
+            return Path.of(path).toRealPath().toString();
+        } catch (IOException e) {
+            return path;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.utils.backend;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.net.PortProber;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Класс LocalGridBackend запускает Selenium Grid в режиме standalone как дочерний процесс
+ * и создает сессии на нем так же, как {@link RemoteGridBackend}.
+ * <p>
+ * Локальный Grid используется как замена настоящему Grid в тестах: он проходит через ту же
+ * очередь сессий и тот же протокол, что и удаленный, но не требует отдельной инфраструктуры.
+ */
+@Slf4j
+public class LocalGridBackend extends RemoteGridBackend {
+
+    /** Максимальное время ожидания готовности Grid */
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(60);
+
+    /** Процесс запущенного Grid */
+    private final Process gridProcess;
+
+    /**
+     * Конструктор LocalGridBackend запускает Grid и дожидается его готовности.
+     *
+     * @param port        порт Grid
+     * @param maxSessions максимальное количество одновременных сессий на узле Grid
+     */
+    public LocalGridBackend(int port, int maxSessions) {
+        super(URI.create("http://localhost:" + port));
+        this.gridProcess = startGrid(port, maxSessions);
+        waitUntilReady();
+    }
+
+    /**
+     * Конструктор LocalGridBackend, который запускает Grid на свободном порту.
+     *
+     * @param maxSessions максимальное количество одновременных сессий на узле Grid
+     */
+    public LocalGridBackend(int maxSessions) {
+        this(PortProber.findFreePort(), maxSessions);
+    }
+
+    /**
+     * Запускает Grid standalone в отдельной JVM с classpath текущего процесса.
+     *
+     * @param port        порт Grid
+     * @param maxSessions максимальное количество одновременных сессий
+     * @return запущенный процесс
+     */
+    private static Process startGrid(int port, int maxSessions) {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> command = new ArrayList<>(List.of(
+                java, "-cp", System.getProperty("java.class.path"),
+                "org.openqa.selenium.grid.Main", "standalone",
+                "--port", String.valueOf(port),
+                "--max-sessions", String.valueOf(maxSessions),
+                "--override-max-sessions", "true"));
+        File logFile = new File("target", "grid-standalone.log");
+        logFile.getParentFile().mkdirs();
+        log.info("Slf4j Logging: Starting local Selenium Grid standalone on port {}, log: {}", port, logFile);
+        try {
+            return new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(logFile)
+                    .start();
+        } catch (IOException e) {
+            throw new WebDriverException("Unable to start local Selenium Grid", e);
+        }
+    }
+
+    /**
+     * Опрашивает эндпоинт /status, пока Grid не сообщит о готовности.
+     */
+    private void waitUntilReady() {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(getGridUri().resolve("/status")).GET().build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!gridProcess.isAlive()) {
+                throw new WebDriverException("Local Selenium Grid exited with code " + gridProcess.exitValue());
+            }
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200 && response.body().replace(" ", "").contains("\"ready\":true")) {
+                    log.info("Slf4j Logging: Local Selenium Grid is ready at {}", getGridUri());
+                    return;
+                }
+            } catch (IOException e) {
+                log.debug("Slf4j Logging: Local Selenium Grid is not reachable yet: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            sleep(Duration.ofMillis(250));
+        }
+        shutdown();
+        throw new WebDriverException("Local Selenium Grid did not become ready within " + STARTUP_TIMEOUT);
+    }
+
+    /**
+     * Останавливает процесс Grid.
+     */
+    @Override
+    public void shutdown() {
+        if (gridProcess.isAlive()) {
+            log.info("Slf4j Logging: Stopping local Selenium Grid");
+            gridProcess.destroy();
+        }
+    }
+
+    @Override
+    public String name() {
+        return "grid-standalone";
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.example.utils.backend;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Класс QueuedDriverBackend ограничивает количество одновременных сессий другого бэкенда.
+ * <p>
+ * Если все слоты заняты, запрос на новую сессию ждет в клиентской очереди (справедливый семафор)
+ * вместо того, чтобы отправляться на перегруженный Grid. Время ожидания в очереди и время
+ * создания сессии записываются в {@link SessionMetrics}.
+ */
+@Slf4j
+public class QueuedDriverBackend implements DriverBackend {
+
+    /** Бэкенд, которому делегируется создание сессий */
+    private final DriverBackend delegate;
+
+    /** Слоты для одновременных сессий */
+    private final Semaphore slots;
+
+    /** Максимальное время ожидания в очереди */
+    private final Duration queueTimeout;
+
+    /** Метрики сессий */
+    private final SessionMetrics metrics;
+
+    /** Сессии, созданные этим бэкендом и еще не завершенные; слот освобождается только для них */
+    private final Set<WebDriver> issued = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+    /**
+     * Конструктор QueuedDriverBackend.
+     *
+     * @param delegate     бэкенд, которому делегируется создание сессий
+     * @param maxSessions  максимальное количество одновременных сессий
+     * @param queueTimeout максимальное время ожидания свободного слота
+     * @param metrics      метрики сессий
+     */
+    public QueuedDriverBackend(DriverBackend delegate, int maxSessions, Duration queueTimeout, SessionMetrics metrics) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("maxSessions must be positive: " + maxSessions);
+        }
+        this.delegate = delegate;
+        this.slots = new Semaphore(maxSessions, true);
+        this.queueTimeout = queueTimeout;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Ожидает свободный слот и создает сессию через делегата.
+     *
+     * @param options настройки Chrome
+     * @return экземпляр WebDriver новой сессии
+     */
+    @Override
+    public WebDriver startSession(ChromeOptions options) {
+        long queuedAt = System.nanoTime();
+        if (slots.availablePermits() == 0) {
+            log.info("Slf4j Logging: All session slots are busy, waiting in queue (queue length: {})",
+                    slots.getQueueLength() + 1);
+        }
+        acquireSlot();
+        long acquiredAt = System.nanoTime();
+        metrics.recordQueueWait(acquiredAt - queuedAt);
+
+        WebDriver driver;
+        try {
+            driver = delegate.startSession(options);
+        } catch (RuntimeException e) {
+            slots.release();
+            throw e;
+        }
+        issued.add(driver);
+        long createdIn = System.nanoTime() - acquiredAt;
+        metrics.recordSessionCreation(createdIn);
+        metrics.sessionStarted();
+        log.info("Slf4j Logging: Session created by '{}' backend in {} ms after {} ms in queue",
+                delegate.name(), TimeUnit.NANOSECONDS.toMillis(createdIn), TimeUnit.NANOSECONDS.toMillis(acquiredAt - queuedAt));
+        return driver;
+    }
+
+    /**
+     * Завершает сессию и освобождает слот.
+     * <p>
+     * Сессия, которую этот бэкенд не создавал или которая уже завершена, игнорируется, чтобы лишний
+     * вызов не добавил слот и не поднял ограничение одновременных сессий.
+     *
+     * @param driver экземпляр WebDriver, который нужно завершить
+     */
+    @Override
+    public void stopSession(WebDriver driver) {
+        if (!issued.remove(driver)) {
+            log.warn("Slf4j Logging: Ignoring stop of a session not issued by '{}' backend or already stopped", delegate.name());
+            return;
+        }
+        try {
+            delegate.stopSession(driver);
+        } finally {
+            metrics.sessionStopped();
+            slots.release();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public Set<Long> ownedProcesses() {
+        return delegate.ownedProcesses();
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    /**
+     * Возвращает количество запросов, ожидающих свободный слот.
+     *
+     * @return длина клиентской очереди
+     */
+    public int getQueueLength() {
+        return slots.getQueueLength();
+    }
+
+    private void acquireSlot() {
+        try {
+            if (!slots.tryAcquire(queueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new WebDriverException("No free session slot within " + queueTimeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting for a session slot", e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.utils.backend;
+
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.net.URI;
+
+/**
+ * Класс RemoteGridBackend создает сессии на Selenium Grid через RemoteWebDriver.
+ * <p>
+ * Адрес Grid передается в конструктор, например {@code http://localhost:4444}.
+ */
+@Slf4j
+public class RemoteGridBackend implements DriverBackend {
+
+    /** Адрес Selenium Grid */
+    private final URI gridUri;
+
+    /**
+     * Конструктор RemoteGridBackend.
+     *
+     * @param gridUri адрес Selenium Grid
+     */
+    public RemoteGridBackend(URI gridUri) {
+        this.gridUri = gridUri;
+    }
+
+    /**
+     * Запрашивает у Grid новую сессию Chrome.
+     *
+     * @param options настройки Chrome
+     * @return экземпляр RemoteWebDriver
+     */
+    @Override
+    public WebDriver startSession(ChromeOptions options) {
+        log.info("Slf4j Logging: Requesting a new session from Selenium Grid at {}", gridUri);
+        return RemoteWebDriver.builder()
+                .oneOf(options)
+                .address(gridUri)
+                .build();
+    }
+
+    /**
+     * Возвращает адрес Selenium Grid.
+     *
+     * @return адрес Grid
+     */
+    protected URI getGridUri() {
+        return gridUri;
+    }
+
+    @Override
+    public String name() {
+        return "grid";
+    }
+}
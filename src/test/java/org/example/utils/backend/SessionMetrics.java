@@ -0,0 +1,167 @@
+package org.example.utils.backend;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Класс SessionMetrics собирает метрики планирования и использования браузерных сессий.
+ * <p>
+ * Метрики позволяют понять, откуда берется медленная работа тестов:
+ * <ul>
+ *     <li>время ожидания в клиентской очереди - Grid или локальная машина перегружены сессиями;</li>
+ *     <li>время создания сессии - медленный запуск браузера или планировщик Grid;</li>
+ *     <li>количество команд в секунду и средняя длительность команды - скорость самого браузера.</li>
+ * </ul>
+ * Класс потокобезопасен и может использоваться несколькими сессиями одновременно.
+ */
+public class SessionMetrics {
+
+    /** Время ожидания в очереди для каждой сессии, в наносекундах */
+    private final List<Long> queueWaits = Collections.synchronizedList(new ArrayList<>());
+
+    /** Время создания каждой сессии, в наносекундах */
+    private final List<Long> creationLatencies = Collections.synchronizedList(new ArrayList<>());
+
+    /** Количество выполненных команд WebDriver */
+    private final LongAdder commands = new LongAdder();
+
+    /** Суммарная длительность команд WebDriver, в наносекундах */
+    private final LongAdder commandNanos = new LongAdder();
+
+    /** Количество команд, завершившихся ошибкой */
+    private final LongAdder failedCommands = new LongAdder();
+
+    /** Количество активных сессий */
+    private int activeSessions;
+
+    /** Момент, когда количество активных сессий стало больше нуля */
+    private long busySince;
+
+    /** Суммарное время, в течение которого была активна хотя бы одна сессия, в наносекундах */
+    private long busyNanos;
+
+    /**
+     * Записывает время ожидания сессии в клиентской очереди.
+     *
+     * @param nanos время ожидания в наносекундах
+     */
+    public void recordQueueWait(long nanos) {
+        queueWaits.add(nanos);
+    }
+
+    /**
+     * Записывает время создания сессии.
+     *
+     * @param nanos время создания в наносекундах
+     */
+    public void recordSessionCreation(long nanos) {
+        creationLatencies.add(nanos);
+    }
+
+    /**
+     * Записывает выполненную команду WebDriver.
+     *
+     * @param nanos  длительность команды в наносекундах
+     * @param failed true, если команда завершилась ошибкой
+     */
+    public void recordCommand(long nanos, boolean failed) {
+        commands.increment();
+        commandNanos.add(nanos);
+        if (failed) {
+            failedCommands.increment();
+        }
+    }
+
+    /**
+     * Отмечает начало сессии.
+     */
+    public synchronized void sessionStarted() {
+        if (activeSessions++ == 0) {
+            busySince = System.nanoTime();
+        }
+    }
+
+    /**
+     * Отмечает завершение сессии.
+     */
+    public synchronized void sessionStopped() {
+        if (activeSessions > 0 && --activeSessions == 0) {
+            busyNanos += System.nanoTime() - busySince;
+        }
+    }
+
+    /**
+     * Возвращает количество команд в секунду за время, когда была активна хотя бы одна сессия.
+     *
+     * @return количество команд в секунду
+     */
+    public synchronized double commandsPerSecond() {
+        long busy = activeSessions > 0 ? busyNanos + System.nanoTime() - busySince : busyNanos;
+        return busy == 0 ? 0 : commands.sum() / (busy / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * Возвращает количество выполненных команд WebDriver.
+     *
+     * @return количество команд
+     */
+    public long getCommandCount() {
+        return commands.sum();
+    }
+
+    /**
+     * Возвращает перцентиль времени ожидания в очереди.
+     *
+     * @param percentile перцентиль от 0 до 100
+     * @return время ожидания в миллисекундах
+     */
+    public double queueWaitMillis(double percentile) {
+        return percentileMillis(queueWaits, percentile);
+    }
+
+    /**
+     * Возвращает перцентиль времени создания сессии.
+     *
+     * @param percentile перцентиль от 0 до 100
+     * @return время создания в миллисекундах
+     */
+    public double sessionCreationMillis(double percentile) {
+        return percentileMillis(creationLatencies, percentile);
+    }
+
+    /**
+     * Формирует текстовую сводку метрик для логов и отчетов.
+     *
+     * @return сводка метрик
+     */
+    public String summary() {
+        long count = commands.sum();
+        return String.format(
+                "sessions=%d, queueWait p50/p95/max=%.1f/%.1f/%.1f ms, "
+                        + "sessionCreation p50/p95/max=%.1f/%.1f/%.1f ms, "
+                        + "commands=%d (failed=%d), avgCommand=%.1f ms, commands/sec=%.2f",
+                creationLatencies.size(),
+                queueWaitMillis(50), queueWaitMillis(95), queueWaitMillis(100),
+                sessionCreationMillis(50), sessionCreationMillis(95), sessionCreationMillis(100),
+                count, failedCommands.sum(),
+                count == 0 ? 0 : commandNanos.sum() / (double) count / TimeUnit.MILLISECONDS.toNanos(1),
+                commandsPerSecond());
+    }
+
+    private static double percentileMillis(List<Long> samples, double percentile) {
+        List<Long> sorted;
+        synchronized (samples) {
+            if (samples.isEmpty()) {
+                return 0;
+            }
+            sorted = new ArrayList<>(samples);
+        }
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1;
+        long value = sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+        return value / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
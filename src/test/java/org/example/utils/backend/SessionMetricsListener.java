@@ -0,0 +1,53 @@
+package org.example.utils.backend;
+
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Класс SessionMetricsListener измеряет длительность каждой команды WebDriver и WebElement
+ * и передает ее в {@link SessionMetrics}.
+ * <p>
+ * Регистрируется в EventFiringDecorator вместе с логирующим слушателем.
+ */
+public class SessionMetricsListener implements WebDriverListener {
+
+    /** Момент начала текущей команды в потоке */
+    private final ThreadLocal<Long> commandStart = new ThreadLocal<>();
+
+    /** Метрики, в которые записываются команды */
+    private final SessionMetrics metrics;
+
+    /**
+     * Конструктор SessionMetricsListener.
+     *
+     * @param metrics метрики, в которые записываются команды
+     */
+    public SessionMetricsListener(SessionMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        commandStart.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        record(false);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        record(true);
+    }
+
+    private void record(boolean failed) {
+        Long start = commandStart.get();
+        if (start != null) {
+            commandStart.remove();
+            metrics.recordCommand(System.nanoTime() - start, failed);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package org.example.visual;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Класс ImageData хранит изображение как плоский массив пикселей {@code 0xRRGGBB} без альфа-канала.
+ * <p>
+ * Сравнение работает только с этим массивом: после декодирования не создается ни объектов на пиксель,
+ * ни обращений к {@link java.awt.image.ColorModel}. Для типичных растров PNG (BGR, ABGR, INT RGB)
+ * байты растра переписываются в массив напрямую, для остальных используется {@link BufferedImage#getRGB}.
+ */
+public final class ImageData {
+
+    /** Ширина изображения в пикселях */
+    private final int width;
+
+    /** Высота изображения в пикселях */
+    private final int height;
+
+    /** Пиксели построчно, формат 0xRRGGBB */
+    private final int[] pixels;
+
+    /**
+     * Конструктор ImageData.
+     *
+     * @param width  ширина в пикселях
+     * @param height высота в пикселях
+     * @param pixels пиксели построчно в формате 0xRRGGBB, массив не копируется
+     */
+    public ImageData(int width, int height, int[] pixels) {
+        if (pixels.length != width * height) {
+            throw new IllegalArgumentException("Expected " + width * height + " pixels, got " + pixels.length);
+        }
+        this.width = width;
+        this.height = height;
+        this.pixels = pixels;
+    }
+
+    /**
+     * Декодирует PNG, например скриншот WebDriver.
+     *
+     * @param png байты PNG
+     * @return изображение
+     */
+    public static ImageData fromPng(byte[] png) {
+        return read(new ByteArrayInputStream(png), "screenshot");
+    }
+
+    /**
+     * Читает изображение из файла.
+     *
+     * @param file файл изображения
+     * @return изображение
+     */
+    public static ImageData read(Path file) {
+        try (InputStream input = Files.newInputStream(file)) {
+            return read(input, file.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read image " + file, e);
+        }
+    }
+
+    /**
+     * Переводит {@link BufferedImage} в плоский массив пикселей.
+     *
+     * @param image изображение AWT
+     * @return изображение
+     */
+    public static ImageData of(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = new int[width * height];
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        int type = image.getType();
+        if ((type == BufferedImage.TYPE_INT_RGB || type == BufferedImage.TYPE_INT_ARGB)
+                && buffer instanceof DataBufferInt ints && ints.getData().length == pixels.length) {
+            int[] data = ints.getData();
+            for (int i = 0; i < pixels.length; i++) {
+                pixels[i] = data[i] & 0xFFFFFF;
+            }
+        } else if ((type == BufferedImage.TYPE_3BYTE_BGR || type == BufferedImage.TYPE_4BYTE_ABGR)
+                && buffer instanceof DataBufferByte bytes) {
+            byte[] data = bytes.getData();
+            int stride = type == BufferedImage.TYPE_3BYTE_BGR ? 3 : 4;
+            int offset = stride - 3;
+            if (data.length != pixels.length * stride) {
+                image.getRGB(0, 0, width, height, pixels, 0, width);
+                return maskAlpha(width, height, pixels);
+            }
+            for (int i = 0, j = offset; i < pixels.length; i++, j += stride) {
+                pixels[i] = (data[j + 2] & 0xFF) << 16 | (data[j + 1] & 0xFF) << 8 | (data[j] & 0xFF);
+            }
+        } else {
+            image.getRGB(0, 0, width, height, pixels, 0, width);
+            return maskAlpha(width, height, pixels);
+        }
+        return new ImageData(width, height, pixels);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Возвращает массив пикселей без копирования.
+     *
+     * @return пиксели построчно в формате 0xRRGGBB
+     */
+    public int[] getPixels() {
+        return pixels;
+    }
+
+    /**
+     * Возвращает пиксель.
+     *
+     * @param x столбец
+     * @param y строка
+     * @return пиксель в формате 0xRRGGBB
+     */
+    public int getPixel(int x, int y) {
+        return pixels[y * width + x];
+    }
+
+    /**
+     * Кодирует изображение в PNG.
+     *
+     * @return байты PNG
+     */
+    public byte[] toPng() {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        System.arraycopy(pixels, 0, ((DataBufferInt) image.getRaster().getDataBuffer()).getData(), 0, pixels.length);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", output);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to encode PNG", e);
+        }
+        return output.toByteArray();
+    }
+
+    private static ImageData read(InputStream input, String source) {
+        BufferedImage image;
+        try {
+            image = ImageIO.read(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to decode image " + source, e);
+        }
+        if (image == null) {
+            throw new IllegalArgumentException("Unsupported image format: " + source);
+        }
+        return of(image);
+    }
+
+    private static ImageData maskAlpha(int width, int height, int[] pixels) {
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] &= 0xFFFFFF;
+        }
+        return new ImageData(width, height, pixels);
+    }
+}
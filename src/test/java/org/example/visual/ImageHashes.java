@@ -0,0 +1,123 @@
+package org.example.visual;
+
+import java.awt.Rectangle;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Класс ImageHashes вычисляет хэши изображения для предварительной фильтрации сравнения.
+ * <p>
+ * Перцептивный хэш (dHash) описывает изображение целиком 64 битами: расстояние Хэмминга между хэшами
+ * двух снимков показывает, насколько они похожи, и позволяет сразу отклонить совершенно другую страницу
+ * без попиксельного сравнения. Хэши плиток - точные 64-битные хэши FNV-1a содержимого плиток:
+ * плитки с одинаковым хэшем не сравниваются попиксельно.
+ */
+public final class ImageHashes {
+
+    /** Начальное значение FNV-1a */
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    /** Множитель FNV-1a */
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /** Количество выборок по каждой оси внутри ячейки dHash */
+    private static final int SAMPLES = 8;
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров этого класса.
+     */
+    private ImageHashes() {
+    }
+
+    /**
+     * Вычисляет разностный перцептивный хэш (dHash) по сетке 9x8 средних яркостей.
+     * <p>
+     * Яркость ячейки оценивается по {@code 8x8} выборкам, поэтому хэш считается за несколько тысяч обращений
+     * к массиву независимо от размера снимка. Пиксели игнорируемых областей считаются черными.
+     *
+     * @param image изображение
+     * @param grid  сетка с игнорируемыми областями
+     * @return 64-битный хэш
+     */
+    public static long differenceHash(ImageData image, TileGrid grid) {
+        List<Rectangle> ignored = grid.getIgnoreRegions();
+        double[] luminance = new double[9 * 8];
+        for (int cellY = 0; cellY < 8; cellY++) {
+            for (int cellX = 0; cellX < 9; cellX++) {
+                double sum = 0;
+                for (int sy = 0; sy < SAMPLES; sy++) {
+                    int y = (int) ((cellY + (sy + 0.5) / SAMPLES) * image.getHeight() / 8);
+                    for (int sx = 0; sx < SAMPLES; sx++) {
+                        int x = (int) ((cellX + (sx + 0.5) / SAMPLES) * image.getWidth() / 9);
+                        if (!TileGrid.isIgnored(x, y, ignored)) {
+                            sum += luminance(image.getPixel(x, y));
+                        }
+                    }
+                }
+                luminance[cellY * 9 + cellX] = sum;
+            }
+        }
+        long hash = 0;
+        for (int cellY = 0; cellY < 8; cellY++) {
+            for (int cellX = 0; cellX < 8; cellX++) {
+                hash <<= 1;
+                if (luminance[cellY * 9 + cellX] < luminance[cellY * 9 + cellX + 1]) {
+                    hash |= 1;
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Возвращает расстояние Хэмминга между двумя перцептивными хэшами.
+     *
+     * @param first  первый хэш
+     * @param second второй хэш
+     * @return количество различающихся бит от 0 до 64
+     */
+    public static int distance(long first, long second) {
+        return Long.bitCount(first ^ second);
+    }
+
+    /**
+     * Вычисляет хэши всех плиток параллельно в общем пуле fork-join.
+     *
+     * @param image изображение
+     * @param grid  сетка плиток
+     * @return хэши плиток по номерам
+     */
+    public static long[] tileHashes(ImageData image, TileGrid grid) {
+        return IntStream.range(0, grid.getTileCount()).parallel()
+                .mapToLong(tile -> tileHash(image, grid, tile))
+                .toArray();
+    }
+
+    /**
+     * Вычисляет хэш FNV-1a содержимого одной плитки без учета игнорируемых пикселей.
+     *
+     * @param image изображение
+     * @param grid  сетка плиток
+     * @param tile  номер плитки
+     * @return хэш плитки
+     */
+    public static long tileHash(ImageData image, TileGrid grid, int tile) {
+        Rectangle bounds = grid.bounds(tile);
+        List<Rectangle> ignored = grid.ignoredIn(tile);
+        int[] pixels = image.getPixels();
+        int width = image.getWidth();
+        long hash = FNV_OFFSET;
+        for (int y = bounds.y; y < bounds.y + bounds.height; y++) {
+            int row = y * width;
+            for (int x = bounds.x; x < bounds.x + bounds.width; x++) {
+                int pixel = ignored.isEmpty() || !TileGrid.isIgnored(x, y, ignored) ? pixels[row + x] : 0;
+                hash = (hash ^ pixel) * FNV_PRIME;
+            }
+        }
+        return hash;
+    }
+
+    private static double luminance(int pixel) {
+        return 0.299 * (pixel >> 16 & 0xFF) + 0.587 * (pixel >> 8 & 0xFF) + 0.114 * (pixel & 0xFF);
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.visual;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Класс TileGrid разбивает изображение на квадратные плитки и учитывает игнорируемые области.
+ * <p>
+ * Плитка - единица предварительной фильтрации: для каждой плитки считается хэш содержимого, и попиксельно
+ * сравниваются только плитки с разными хэшами. Пиксели игнорируемых областей в хэш и сравнение не входят.
+ */
+public final class TileGrid {
+
+    /** Размер стороны плитки в пикселях */
+    private final int tileSize;
+
+    /** Ширина изображения */
+    private final int width;
+
+    /** Высота изображения */
+    private final int height;
+
+    /** Количество плиток по горизонтали */
+    private final int columns;
+
+    /** Количество плиток по вертикали */
+    private final int rows;
+
+    /** Игнорируемые области, обрезанные по границам изображения */
+    private final List<Rectangle> ignoreRegions;
+
+    /**
+     * Конструктор TileGrid.
+     *
+     * @param width         ширина изображения
+     * @param height        высота изображения
+     * @param tileSize      размер стороны плитки
+     * @param ignoreRegions игнорируемые области в пикселях изображения
+     */
+    public TileGrid(int width, int height, int tileSize, List<Rectangle> ignoreRegions) {
+        this.tileSize = tileSize;
+        this.width = width;
+        this.height = height;
+        this.columns = (width + tileSize - 1) / tileSize;
+        this.rows = (height + tileSize - 1) / tileSize;
+        Rectangle bounds = new Rectangle(0, 0, width, height);
+        List<Rectangle> clipped = new ArrayList<>();
+        for (Rectangle region : ignoreRegions) {
+            Rectangle intersection = region.intersection(bounds);
+            if (!intersection.isEmpty()) {
+                clipped.add(intersection);
+            }
+        }
+        this.ignoreRegions = List.copyOf(clipped);
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    public List<Rectangle> getIgnoreRegions() {
+        return ignoreRegions;
+    }
+
+    public int getTileCount() {
+        return columns * rows;
+    }
+
+    /**
+     * Возвращает границы плитки.
+     *
+     * @param tile номер плитки, построчно слева направо
+     * @return границы плитки, обрезанные по изображению
+     */
+    public Rectangle bounds(int tile) {
+        int x = tile % columns * tileSize;
+        int y = tile / columns * tileSize;
+        return new Rectangle(x, y, Math.min(tileSize, width - x), Math.min(tileSize, height - y));
+    }
+
+    /**
+     * Возвращает игнорируемые области, пересекающие плитку.
+     *
+     * @param tile номер плитки
+     * @return пересечения игнорируемых областей с плиткой, пустой список для большинства плиток
+     */
+    public List<Rectangle> ignoredIn(int tile) {
+        if (ignoreRegions.isEmpty()) {
+            return List.of();
+        }
+        Rectangle bounds = bounds(tile);
+        List<Rectangle> result = new ArrayList<>(1);
+        for (Rectangle region : ignoreRegions) {
+            Rectangle intersection = region.intersection(bounds);
+            if (!intersection.isEmpty()) {
+                result.add(intersection);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Проверяет, попадает ли точка в игнорируемую область.
+     *
+     * @param x       столбец
+     * @param y       строка
+     * @param regions области для проверки, обычно {@link #ignoredIn(int)}
+     * @return true, если точка игнорируется
+     */
+    static boolean isIgnored(int x, int y, List<Rectangle> regions) {
+        for (int i = 0; i < regions.size(); i++) {
+            if (regions.get(i).contains(x, y)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Возвращает подпись сетки: размер плитки и игнорируемые области.
+     * <p>
+     * Хэши плиток базовой линии переиспользуются только при совпадении подписи.
+     *
+     * @return подпись сетки
+     */
+    public long signature() {
+        long signature = Objects.hash(tileSize, width, height);
+        for (Rectangle region : ignoreRegions) {
+            signature = signature * 31 + Objects.hash(region.x, region.y, region.width, region.height);
+        }
+        return signature;
+    }
+}
@@ -0,0 +1,282 @@
+package org.example.visual;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Класс VisualBaseline представляет эталонный снимок: PNG и бинарный файл хэшей рядом с ним.
+ * <p>
+ * Файл {@code <name>.tiles} хранит размеры снимка, подпись сетки ({@link TileGrid#signature()}), перцептивный
+ * хэш и хэши плиток - около 16 КБ для снимка 1920x1080 с плитками 32 пикселя. Если хэши плиток снимка
+ * совпадают с сохраненными, PNG эталона вообще не декодируется; он читается лениво только для попиксельного
+ * сравнения несовпавших плиток.
+ * <p>
+ * При изменении размера плиток или игнорируемых областей хэши пересчитываются из PNG и сохраняются в каталог
+ * {@code visual.hashCacheDir} (по умолчанию {@code target/visual-baselines}), а не рядом с эталоном: эталоны
+ * лежат в {@code src/test/resources}, и обычный прогон не должен их менять. Пересчитанный файл используется,
+ * пока он не старше PNG эталона. Файл хэшей рядом с эталоном пишет только {@link #save}, то есть создание эталона
+ * или явное обновление {@code visual.updateBaselines=true}.
+ */
+@Slf4j
+public final class VisualBaseline {
+
+    /** Сигнатура файла хэшей */
+    private static final int MAGIC = 0x56495342;
+
+    /** Версия формата файла хэшей */
+    private static final int VERSION = 1;
+
+    /** PNG эталона */
+    private final Path png;
+
+    /** Файл хэшей эталона */
+    private final Path sidecar;
+
+    /** Файл хэшей, пересчитанных для другой сетки */
+    private final Path hashCache;
+
+    /** Декодированный эталон, читается при первом обращении */
+    private ImageData image;
+
+    /** Ширина эталона, -1 до чтения файла хэшей или PNG */
+    private int width = -1;
+
+    /** Высота эталона */
+    private int height = -1;
+
+    /** Подпись сетки, для которой посчитаны хэши */
+    private long signature;
+
+    /** Перцептивный хэш эталона */
+    private long differenceHash;
+
+    /** Хэши плиток эталона, null до чтения файла хэшей */
+    private long[] tileHashes;
+
+    private VisualBaseline(Path directory, String name, Path hashCacheDirectory) {
+        this.png = directory.resolve(name + ".png");
+        this.sidecar = directory.resolve(name + ".tiles");
+        this.hashCache = hashCacheDirectory.resolve(name + ".tiles");
+    }
+
+    /**
+     * Возвращает эталон с заданным именем в каталоге; сам эталон может еще не существовать.
+     *
+     * @param directory каталог эталонов
+     * @param name      имя эталона без расширения
+     * @return эталон
+     */
+    public static VisualBaseline at(Path directory, String name) {
+        return at(directory, name, hashCacheDirectory());
+    }
+
+    /**
+     * Возвращает эталон с заданным именем в каталоге и каталогом для пересчитанных хэшей.
+     *
+     * @param directory          каталог эталонов
+     * @param name               имя эталона без расширения
+     * @param hashCacheDirectory каталог хэшей, пересчитанных для другой сетки
+     * @return эталон
+     */
+    public static VisualBaseline at(Path directory, String name, Path hashCacheDirectory) {
+        VisualBaseline baseline = new VisualBaseline(directory, name, hashCacheDirectory);
+        if (Files.exists(baseline.sidecar)) {
+            baseline.readSidecar(baseline.sidecar);
+        }
+        return baseline;
+    }
+
+    /**
+     * Сохраняет снимок как эталон вместе с хэшами.
+     *
+     * @param directory каталог эталонов
+     * @param name      имя эталона без расширения
+     * @param image     снимок
+     * @param grid      сетка плиток с игнорируемыми областями
+     * @return сохраненный эталон
+     */
+    public static VisualBaseline save(Path directory, String name, ImageData image, TileGrid grid) {
+        return save(directory, name, image, grid, hashCacheDirectory());
+    }
+
+    /**
+     * Сохраняет снимок как эталон вместе с хэшами и удаляет пересчитанные хэши прежнего эталона.
+     *
+     * @param directory          каталог эталонов
+     * @param name               имя эталона без расширения
+     * @param image              снимок
+     * @param grid               сетка плиток с игнорируемыми областями
+     * @param hashCacheDirectory каталог хэшей, пересчитанных для другой сетки
+     * @return сохраненный эталон
+     */
+    public static VisualBaseline save(Path directory, String name, ImageData image, TileGrid grid, Path hashCacheDirectory) {
+        VisualBaseline baseline = new VisualBaseline(directory, name, hashCacheDirectory);
+        try {
+            Files.createDirectories(directory);
+            Files.write(baseline.png, image.toPng());
+            Files.deleteIfExists(baseline.hashCache);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write visual baseline " + baseline.png, e);
+        }
+        baseline.image = image;
+        baseline.width = image.getWidth();
+        baseline.height = image.getHeight();
+        baseline.rehash(grid);
+        baseline.writeSidecar(baseline.sidecar);
+        log.info("Slf4j Logging: Saved visual baseline {} ({}x{})", baseline.png, image.getWidth(), image.getHeight());
+        return baseline;
+    }
+
+    /**
+     * Проверяет, существует ли PNG эталона.
+     *
+     * @return true, если эталон сохранен
+     */
+    public boolean exists() {
+        return Files.exists(png);
+    }
+
+    public Path getPng() {
+        return png;
+    }
+
+    public synchronized int getWidth() {
+        ensureDimensions();
+        return width;
+    }
+
+    public synchronized int getHeight() {
+        ensureDimensions();
+        return height;
+    }
+
+    /**
+     * Возвращает декодированный эталон, читая PNG при первом обращении.
+     *
+     * @return изображение эталона
+     */
+    public synchronized ImageData image() {
+        if (image == null) {
+            image = ImageData.read(png);
+            width = image.getWidth();
+            height = image.getHeight();
+        }
+        return image;
+    }
+
+    /**
+     * Проверяет, декодировался ли PNG эталона.
+     *
+     * @return true, если PNG уже прочитан
+     */
+    public synchronized boolean isImageLoaded() {
+        return image != null;
+    }
+
+    /**
+     * Возвращает перцептивный хэш эталона для сетки.
+     *
+     * @param grid сетка плиток с игнорируемыми областями
+     * @return 64-битный хэш
+     */
+    public synchronized long differenceHash(TileGrid grid) {
+        ensureHashes(grid);
+        return differenceHash;
+    }
+
+    /**
+     * Возвращает хэши плиток эталона для сетки.
+     *
+     * @param grid сетка плиток с игнорируемыми областями
+     * @return хэши плиток по номерам
+     */
+    public synchronized long[] tileHashes(TileGrid grid) {
+        ensureHashes(grid);
+        return tileHashes;
+    }
+
+    private void ensureDimensions() {
+        if (width < 0) {
+            image();
+        }
+    }
+
+    private void ensureHashes(TileGrid grid) {
+        if (tileHashes != null && signature == grid.signature()) {
+            return;
+        }
+        if (isNewerThanPng(hashCache) && readSidecar(hashCache) && signature == grid.signature()) {
+            return;
+        }
+        log.info("Slf4j Logging: Recomputing tile hashes of visual baseline {} into {}", png, hashCache);
+        rehash(grid);
+        writeSidecar(hashCache);
+    }
+
+    private void rehash(TileGrid grid) {
+        ImageData baseline = image();
+        signature = grid.signature();
+        differenceHash = ImageHashes.differenceHash(baseline, grid);
+        tileHashes = ImageHashes.tileHashes(baseline, grid);
+    }
+
+    private boolean isNewerThanPng(Path file) {
+        try {
+            return Files.exists(file) && Files.getLastModifiedTime(file).compareTo(Files.getLastModifiedTime(png)) >= 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private boolean readSidecar(Path file) {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+                log.warn("Slf4j Logging: Ignoring visual baseline hashes {} of unknown format", file);
+                return false;
+            }
+            width = input.readInt();
+            height = input.readInt();
+            signature = input.readLong();
+            differenceHash = input.readLong();
+            long[] hashes = new long[input.readInt()];
+            for (int i = 0; i < hashes.length; i++) {
+                hashes[i] = input.readLong();
+            }
+            tileHashes = hashes;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read visual baseline hashes " + file, e);
+        }
+    }
+
+    private void writeSidecar(Path target) {
+        try (OutputStream file = Files.newOutputStream(Files.createDirectories(target.getParent()).resolve(target.getFileName()));
+             DataOutputStream output = new DataOutputStream(new BufferedOutputStream(file))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(width);
+            output.writeInt(height);
+            output.writeLong(signature);
+            output.writeLong(differenceHash);
+            output.writeInt(tileHashes.length);
+            for (long hash : tileHashes) {
+                output.writeLong(hash);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write visual baseline hashes " + target, e);
+        }
+    }
+
+    private static Path hashCacheDirectory() {
+        return Path.of(System.getProperty("visual.hashCacheDir", "target/visual-baselines"));
+    }
+}
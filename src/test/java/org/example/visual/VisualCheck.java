@@ -0,0 +1,105 @@
+package org.example.visual;
+
+import io.qameta.allure.Allure;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import java.awt.Rectangle;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Класс VisualCheck выполняет визуальную проверку текущего состояния страницы по эталону.
+ * <p>
+ * Проверка включается системным свойством {@code visual.enabled=true}; без него вызовы только логируются,
+ * чтобы функциональные прогоны против живого demoqa с меняющейся рекламой не падали.
+ * Эталоны хранятся в каталоге {@code visual.baselineDir} (по умолчанию {@code src/test/resources/visual-baselines}).
+ * Отсутствующий эталон создается из текущего снимка; {@code visual.updateBaselines=true} перезаписывает эталоны.
+ * Хэши, пересчитанные для других игнорируемых областей, пишутся в {@code visual.hashCacheDir}, а не рядом с эталоном.
+ * При расхождении к отчету Allure прикладываются снимок, эталон и изображение различий.
+ */
+@Slf4j
+public class VisualCheck {
+
+    /**
+     * Приватный конструктор для предотвращения создания экземпляров этого класса.
+     */
+    private VisualCheck() {
+    }
+
+    /**
+     * Проверяет, включены ли визуальные проверки.
+     *
+     * @return true, если задано {@code visual.enabled=true}
+     */
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("visual.enabled");
+    }
+
+    /**
+     * Сравнивает скриншот окна браузера с эталоном.
+     *
+     * @param driver        экземпляр WebDriver
+     * @param name          имя эталона
+     * @param ignoreRegions игнорируемые области в пикселях скриншота
+     * @throws AssertionError если снимок отличается от эталона больше допуска
+     */
+    public static void verify(WebDriver driver, String name, List<Rectangle> ignoreRegions) {
+        if (!isEnabled()) {
+            log.info("Slf4j Logging: Visual check {} skipped, set visual.enabled=true to run it", name);
+            return;
+        }
+        ImageData actual = ImageData.fromPng(((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES));
+        verify(actual, baselineDirectory(), name, ignoreRegions);
+    }
+
+    /**
+     * Сравнивает снимок с эталоном в каталоге.
+     *
+     * @param actual        снимок
+     * @param directory     каталог эталонов
+     * @param name          имя эталона
+     * @param ignoreRegions игнорируемые области
+     * @throws AssertionError если снимок отличается от эталона больше допуска
+     */
+    public static void verify(ImageData actual, Path directory, String name, List<Rectangle> ignoreRegions) {
+        VisualComparator comparator = VisualComparator.fromSystemProperties();
+        VisualBaseline baseline = VisualBaseline.at(directory, name);
+        if (!baseline.exists() || Boolean.getBoolean("visual.updateBaselines")) {
+            VisualBaseline.save(directory, name, actual, comparator.grid(actual, ignoreRegions));
+            return;
+        }
+
+        long start = System.nanoTime();
+        VisualComparison comparison = comparator.compare(actual, baseline, ignoreRegions);
+        log.info("Slf4j Logging: Visual check {} {} in {} ms", name, comparison, (System.nanoTime() - start) / 1_000_000);
+        if (comparison.isPassed()) {
+            return;
+        }
+
+        attachPng(name + " actual", actual.toPng());
+        try {
+            attachPng(name + " baseline", Files.readAllBytes(baseline.getPng()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read visual baseline " + baseline.getPng(), e);
+        }
+        if (!comparison.getDiffRegions().isEmpty()) {
+            attachPng(name + " diff", comparator.renderDiff(actual, baseline.image(), ignoreRegions, comparison).toPng());
+        }
+        throw new AssertionError("Visual check " + name + " failed: " + comparison);
+    }
+
+    private static Path baselineDirectory() {
+        return Path.of(System.getProperty("visual.baselineDir", "src/test/resources/visual-baselines"));
+    }
+
+    private static void attachPng(String name, byte[] png) {
+        Allure.addAttachment(name, "image/png", new ByteArrayInputStream(png), "png");
+    }
+}
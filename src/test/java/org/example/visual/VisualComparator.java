@@ -0,0 +1,241 @@
+package org.example.visual;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/**
+ * Класс VisualComparator сравнивает снимок с эталоном в три этапа, от дешевого к дорогому.
+ * <ol>
+ *     <li>Перцептивный хэш: если расстояние Хэмминга больше {@code maxHashDistance}, снимки заведомо разные
+ *     (другая страница, ошибка вместо контента), и сравнение завершается без попиксельной проверки.</li>
+ *     <li>Хэши плиток: плитки с одинаковым хэшем совпадают и пропускаются. Если совпали все плитки,
+ *     PNG эталона даже не декодируется.</li>
+ *     <li>Попиксельное сравнение только несовпавших плиток, параллельно задачами fork-join. Пиксель считается
+ *     различающимся, если хотя бы один канал отличается больше чем на {@code channelTolerance} - это
+ *     отсекает шум сглаживания шрифтов.</li>
+ * </ol>
+ * Сравнение проходит, если доля различающихся пикселей не больше {@code maxDiffRatio}.
+ */
+public final class VisualComparator {
+
+    /** Количество плиток, которые задача fork-join сравнивает без дальнейшего деления */
+    private static final int TILES_PER_TASK = 4;
+
+    /** Размер стороны плитки в пикселях */
+    private final int tileSize;
+
+    /** Допустимое отличие канала цвета */
+    private final int channelTolerance;
+
+    /** Допустимая доля различающихся пикселей */
+    private final double maxDiffRatio;
+
+    /** Максимальное расстояние перцептивных хэшей, при котором выполняется попиксельное сравнение */
+    private final int maxHashDistance;
+
+    /**
+     * Конструктор VisualComparator.
+     *
+     * @param tileSize         размер стороны плитки в пикселях
+     * @param channelTolerance допустимое отличие канала цвета, от 0 до 255
+     * @param maxDiffRatio     допустимая доля различающихся пикселей, от 0 до 1
+     * @param maxHashDistance  максимальное расстояние перцептивных хэшей, от 0 до 64
+     */
+    public VisualComparator(int tileSize, int channelTolerance, double maxDiffRatio, int maxHashDistance) {
+        this.tileSize = tileSize;
+        this.channelTolerance = channelTolerance;
+        this.maxDiffRatio = maxDiffRatio;
+        this.maxHashDistance = maxHashDistance;
+    }
+
+    /**
+     * Создает сравнение по системным свойствам {@code visual.tileSize} (32), {@code visual.channelTolerance} (16),
+     * {@code visual.maxDiffRatio} (0.001) и {@code visual.maxHashDistance} (16).
+     *
+     * @return сравнение снимков
+     */
+    public static VisualComparator fromSystemProperties() {
+        return new VisualComparator(
+                Integer.getInteger("visual.tileSize", 32),
+                Integer.getInteger("visual.channelTolerance", 16),
+                Double.parseDouble(System.getProperty("visual.maxDiffRatio", "0.001")),
+                Integer.getInteger("visual.maxHashDistance", 16));
+    }
+
+    /**
+     * Создает сетку плиток для снимка.
+     *
+     * @param image         снимок
+     * @param ignoreRegions игнорируемые области
+     * @return сетка плиток
+     */
+    public TileGrid grid(ImageData image, List<Rectangle> ignoreRegions) {
+        return new TileGrid(image.getWidth(), image.getHeight(), tileSize, ignoreRegions);
+    }
+
+    /**
+     * Сравнивает снимок с эталоном.
+     *
+     * @param actual        снимок
+     * @param baseline      эталон
+     * @param ignoreRegions игнорируемые области
+     * @return результат сравнения
+     */
+    public VisualComparison compare(ImageData actual, VisualBaseline baseline, List<Rectangle> ignoreRegions) {
+        TileGrid grid = grid(actual, ignoreRegions);
+        if (actual.getWidth() != baseline.getWidth() || actual.getHeight() != baseline.getHeight()) {
+            String reason = String.format("size %dx%d differs from baseline %dx%d",
+                    actual.getWidth(), actual.getHeight(), baseline.getWidth(), baseline.getHeight());
+            return new VisualComparison(false, reason, -1, grid.getTileCount(), grid.getTileCount(), 0, 0, List.of());
+        }
+        long comparedPixels = comparedPixels(actual, grid);
+
+        int hashDistance = ImageHashes.distance(ImageHashes.differenceHash(actual, grid), baseline.differenceHash(grid));
+        if (hashDistance > maxHashDistance) {
+            String reason = "perceptual hash distance " + hashDistance + " exceeds " + maxHashDistance;
+            return new VisualComparison(false, reason, hashDistance, grid.getTileCount(), grid.getTileCount(),
+                    0, comparedPixels, List.of());
+        }
+
+        long[] actualHashes = ImageHashes.tileHashes(actual, grid);
+        long[] baselineHashes = baseline.tileHashes(grid);
+        int[] mismatched = IntStream.range(0, grid.getTileCount())
+                .filter(tile -> actualHashes[tile] != baselineHashes[tile])
+                .toArray();
+        if (mismatched.length == 0) {
+            return new VisualComparison(true, "identical tile hashes", hashDistance, grid.getTileCount(), 0,
+                    0, comparedPixels, List.of());
+        }
+
+        int[] counts = new int[mismatched.length];
+        ForkJoinPool.commonPool().invoke(new TileDiffTask(actual, baseline.image(), grid, mismatched, counts, 0, mismatched.length));
+        long diffPixels = 0;
+        List<Rectangle> diffRegions = new ArrayList<>();
+        for (int i = 0; i < mismatched.length; i++) {
+            diffPixels += counts[i];
+            if (counts[i] > 0) {
+                diffRegions.add(grid.bounds(mismatched[i]));
+            }
+        }
+        boolean passed = diffPixels <= maxDiffRatio * comparedPixels;
+        String reason = passed ? "difference within tolerance" : "difference exceeds " + maxDiffRatio * 100 + "% of pixels";
+        return new VisualComparison(passed, reason, hashDistance, grid.getTileCount(), mismatched.length,
+                diffPixels, comparedPixels, diffRegions);
+    }
+
+    /**
+     * Строит изображение различий: снимок затемняется, различающиеся пиксели выделяются красным.
+     *
+     * @param actual        снимок
+     * @param baseline      изображение эталона того же размера
+     * @param ignoreRegions игнорируемые области
+     * @param comparison    результат сравнения
+     * @return изображение различий
+     */
+    public ImageData renderDiff(ImageData actual, ImageData baseline, List<Rectangle> ignoreRegions, VisualComparison comparison) {
+        int[] pixels = actual.getPixels().clone();
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = pixels[i] >> 2 & 0x3F3F3F;
+        }
+        for (Rectangle region : comparison.getDiffRegions()) {
+            for (int y = region.y; y < region.y + region.height; y++) {
+                for (int x = region.x; x < region.x + region.width; x++) {
+                    if (!TileGrid.isIgnored(x, y, ignoreRegions) && differs(actual.getPixel(x, y), baseline.getPixel(x, y))) {
+                        pixels[y * actual.getWidth() + x] = 0xFF0000;
+                    }
+                }
+            }
+        }
+        return new ImageData(actual.getWidth(), actual.getHeight(), pixels);
+    }
+
+    private boolean differs(int first, int second) {
+        if (first == second) {
+            return false;
+        }
+        return Math.abs((first >> 16 & 0xFF) - (second >> 16 & 0xFF)) > channelTolerance
+                || Math.abs((first >> 8 & 0xFF) - (second >> 8 & 0xFF)) > channelTolerance
+                || Math.abs((first & 0xFF) - (second & 0xFF)) > channelTolerance;
+    }
+
+    private static long comparedPixels(ImageData image, TileGrid grid) {
+        long ignored = 0;
+        if (!grid.getIgnoreRegions().isEmpty()) {
+            for (int tile = 0; tile < grid.getTileCount(); tile++) {
+                List<Rectangle> regions = grid.ignoredIn(tile);
+                if (regions.isEmpty()) {
+                    continue;
+                }
+                Rectangle bounds = grid.bounds(tile);
+                for (int y = bounds.y; y < bounds.y + bounds.height; y++) {
+                    for (int x = bounds.x; x < bounds.x + bounds.width; x++) {
+                        if (TileGrid.isIgnored(x, y, regions)) {
+                            ignored++;
+                        }
+                    }
+                }
+            }
+        }
+        return (long) image.getWidth() * image.getHeight() - ignored;
+    }
+
+    /**
+     * Задача fork-join попиксельного сравнения диапазона несовпавших плиток.
+     */
+    private final class TileDiffTask extends RecursiveAction {
+
+        private final ImageData actual;
+        private final ImageData baseline;
+        private final TileGrid grid;
+        private final int[] tiles;
+        private final int[] counts;
+        private final int from;
+        private final int to;
+
+        TileDiffTask(ImageData actual, ImageData baseline, TileGrid grid, int[] tiles, int[] counts, int from, int to) {
+            this.actual = actual;
+            this.baseline = baseline;
+            this.grid = grid;
+            this.tiles = tiles;
+            this.counts = counts;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= TILES_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    counts[i] = diffTile(tiles[i]);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TileDiffTask(actual, baseline, grid, tiles, counts, from, middle),
+                    new TileDiffTask(actual, baseline, grid, tiles, counts, middle, to));
+        }
+
+        private int diffTile(int tile) {
+            Rectangle bounds = grid.bounds(tile);
+            List<Rectangle> ignored = grid.ignoredIn(tile);
+            int[] actualPixels = actual.getPixels();
+            int[] baselinePixels = baseline.getPixels();
+            int width = actual.getWidth();
+            int count = 0;
+            for (int y = bounds.y; y < bounds.y + bounds.height; y++) {
+                int row = y * width;
+                for (int x = bounds.x; x < bounds.x + bounds.width; x++) {
+                    if (differs(actualPixels[row + x], baselinePixels[row + x])
+                            && (ignored.isEmpty() || !TileGrid.isIgnored(x, y, ignored))) {
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.example.visual;
+
+import java.awt.Rectangle;
+import java.util.List;
+
+/**
+ * Класс VisualComparison содержит результат сравнения снимка с эталоном.
+ */
+public final class VisualComparison {
+
+    /** Признак успешного сравнения */
+    private final boolean passed;
+
+    /** Причина результата для отчета */
+    private final String reason;
+
+    /** Расстояние Хэмминга между перцептивными хэшами, -1 если не вычислялось */
+    private final int hashDistance;
+
+    /** Общее количество плиток */
+    private final int tileCount;
+
+    /** Количество плиток с разными хэшами */
+    private final int mismatchedTiles;
+
+    /** Количество пикселей, различающихся больше допуска */
+    private final long diffPixels;
+
+    /** Количество сравниваемых пикселей без игнорируемых областей */
+    private final long comparedPixels;
+
+    /** Границы плиток, в которых найдены различающиеся пиксели */
+    private final List<Rectangle> diffRegions;
+
+    VisualComparison(boolean passed, String reason, int hashDistance, int tileCount, int mismatchedTiles,
+                     long diffPixels, long comparedPixels, List<Rectangle> diffRegions) {
+        this.passed = passed;
+        this.reason = reason;
+        this.hashDistance = hashDistance;
+        this.tileCount = tileCount;
+        this.mismatchedTiles = mismatchedTiles;
+        this.diffPixels = diffPixels;
+        this.comparedPixels = comparedPixels;
+        this.diffRegions = List.copyOf(diffRegions);
+    }
+
+    public boolean isPassed() {
+        return passed;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public int getHashDistance() {
+        return hashDistance;
+    }
+
+    public int getTileCount() {
+        return tileCount;
+    }
+
+    public int getMismatchedTiles() {
+        return mismatchedTiles;
+    }
+
+    public long getDiffPixels() {
+        return diffPixels;
+    }
+
+    public long getComparedPixels() {
+        return comparedPixels;
+    }
+
+    public List<Rectangle> getDiffRegions() {
+        return diffRegions;
+    }
+
+    /**
+     * Возвращает долю различающихся пикселей.
+     *
+     * @return доля от 0 до 1
+     */
+    public double diffRatio() {
+        return comparedPixels == 0 ? 0 : (double) diffPixels / comparedPixels;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %s; hash distance %d, tiles %d/%d mismatched, %d of %d pixels differ (%.4f%%)",
+                passed ? "PASSED" : "FAILED", reason, hashDistance, mismatchedTiles, tileCount,
+                diffPixels, comparedPixels, diffRatio() * 100);
+    }
+}